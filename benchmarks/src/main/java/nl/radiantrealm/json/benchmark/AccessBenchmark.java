@@ -0,0 +1,59 @@
+package nl.radiantrealm.json.benchmark;
+
+import nl.radiantrealm.json.JsonElement;
+import nl.radiantrealm.json.JsonObject;
+import nl.radiantrealm.json.JsonParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class AccessBenchmark {
+
+    @Param({"4", "8", "16", "64"})
+    public int members;
+
+    private JsonObject object;
+    private String[] keys;
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder("{");
+        keys = new String[members];
+
+        for (int i = 0; i < members; i++) {
+            keys[i] = "field" + i;
+
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append('"').append(keys[i]).append("\":").append(i);
+        }
+
+        object = new JsonParser(builder.append('}').toString()).getJsonObject();
+    }
+
+    @Benchmark
+    public void getEveryMember(Blackhole blackhole) {
+        for (String key : keys) {
+            blackhole.consume(object.get(key));
+        }
+    }
+
+    @Benchmark
+    public JsonElement getMissing() {
+        return object.get("missing");
+    }
+
+    @Benchmark
+    public long getAsLong() {
+        return object.getAsLong(keys[keys.length - 1]);
+    }
+}
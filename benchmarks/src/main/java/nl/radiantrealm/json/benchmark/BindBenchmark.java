@@ -0,0 +1,81 @@
+package nl.radiantrealm.json.benchmark;
+
+import nl.radiantrealm.json.JsonConvertible;
+import nl.radiantrealm.json.JsonMapper;
+import nl.radiantrealm.json.JsonObject;
+import nl.radiantrealm.json.JsonParser;
+import nl.radiantrealm.json.JsonReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class BindBenchmark {
+
+    public record Customer(long id, String name, boolean premium) {}
+
+    public record Order(String id, String type, long timestamp, Customer customer, double amount, String currency, List<String> tags) {}
+
+    public static class ConvertibleOrder implements JsonConvertible {
+        private final String id;
+        private final long timestamp;
+        private final double amount;
+        private final String currency;
+
+        public ConvertibleOrder(JsonObject object) {
+            this.id = object.getAsString("id");
+            this.timestamp = object.getAsLong("timestamp");
+            this.amount = object.getAsDouble("amount");
+            this.currency = object.getAsString("currency");
+        }
+
+        @Override
+        public JsonObject toJson() {
+            JsonObject object = new JsonObject();
+            object.add("id", id);
+            object.add("timestamp", timestamp);
+            object.add("amount", amount);
+            object.add("currency", currency);
+            return object;
+        }
+    }
+
+    private static final String ORDER = "{\"id\":\"8c6c7f0e\",\"type\":\"order.created\",\"timestamp\":1700000000123,\"customer\":{\"id\":42,\"name\":\"Customer 42\",\"premium\":true},\"amount\":129.95,\"currency\":\"EUR\",\"tags\":[\"web\",\"promo\"]}";
+
+    private final JsonMapper<Order> mapper = JsonMapper.of(Order.class);
+
+    private JsonObject tree;
+    private Order order;
+
+    @Setup
+    public void setup() {
+        tree = new JsonParser(ORDER).getJsonObject();
+        order = mapper.fromJson(tree);
+    }
+
+    @Benchmark
+    public JsonObject convertibleRoundTrip() throws Exception {
+        return JsonConvertible.fromJson(ConvertibleOrder.class, tree).toJson();
+    }
+
+    @Benchmark
+    public JsonObject mapperTreeRoundTrip() {
+        return mapper.toJson(mapper.fromJson(tree));
+    }
+
+    @Benchmark
+    public Order mapperReadStream() {
+        return mapper.read(new JsonReader(ORDER));
+    }
+
+    @Benchmark
+    public String mapperWriteString() {
+        return mapper.toJsonString(order);
+    }
+}
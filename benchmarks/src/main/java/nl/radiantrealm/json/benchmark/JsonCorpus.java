@@ -0,0 +1,113 @@
+package nl.radiantrealm.json.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public enum JsonCorpus {
+    SMALL_MESSAGE {
+        @Override
+        String generate(Random random) {
+            return String.format(
+                    "{\"id\":\"%s\",\"type\":\"order.created\",\"timestamp\":%s,\"customer\":{\"id\":%s,\"name\":\"Customer %s\",\"premium\":%s},\"amount\":%s,\"currency\":\"EUR\",\"items\":%s}",
+                    new java.util.UUID(random.nextLong(), random.nextLong()),
+                    1_700_000_000_000L + random.nextInt(1_000_000),
+                    random.nextInt(100_000),
+                    random.nextInt(1000),
+                    random.nextBoolean(),
+                    random.nextInt(100_000) / 100.0,
+                    1 + random.nextInt(5)
+            );
+        }
+    },
+
+    TELEMETRY {
+        @Override
+        String generate(Random random) {
+            StringBuilder builder = new StringBuilder("{\"device\":\"sensor-17\",\"samples\":[");
+
+            for (int i = 0; i < 2000; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+
+                builder.append("{\"t\":").append(1_700_000_000_000L + i * 250L)
+                        .append(",\"temperature\":").append(random.nextGaussian() * 5 + 20)
+                        .append(",\"pressure\":").append(1013 + random.nextInt(40) - 20)
+                        .append(",\"vector\":[").append(random.nextDouble()).append(',').append(random.nextDouble()).append(',').append(random.nextDouble())
+                        .append("]}");
+            }
+
+            return builder.append("]}").toString();
+        }
+    },
+
+    STRINGS {
+        @Override
+        String generate(Random random) {
+            StringBuilder builder = new StringBuilder("{\"articles\":[");
+            String[] words = {"lorem", "ipsum", "dolor", "sit", "amet", "café", "naïve", "日本", "quote\\\"d", "tab\\t", "line\\n"};
+
+            for (int i = 0; i < 200; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+
+                builder.append("{\"title\":\"Article ").append(i).append("\",\"body\":\"");
+
+                for (int j = 0; j < 150; j++) {
+                    builder.append(words[random.nextInt(words.length)]).append(' ');
+                }
+
+                builder.append("\",\"author\":\"author").append(random.nextInt(50)).append("\"}");
+            }
+
+            return builder.append("]}").toString();
+        }
+    },
+
+    DEEP_NESTING {
+        @Override
+        String generate(Random random) {
+            StringBuilder builder = new StringBuilder();
+
+            for (int i = 0; i < 1000; i++) {
+                builder.append("{\"level\":").append(i).append(",\"child\":[");
+            }
+
+            builder.append("null");
+
+            for (int i = 0; i < 1000; i++) {
+                builder.append("]}");
+            }
+
+            return builder.toString();
+        }
+    },
+
+    LARGE_ARRAY {
+        @Override
+        String generate(Random random) {
+            StringBuilder builder = new StringBuilder("[");
+
+            for (int i = 0; i < 100_000; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+
+                builder.append(random.nextInt());
+            }
+
+            return builder.append(']').toString();
+        }
+    };
+
+    abstract String generate(Random random);
+
+    public String text() {
+        return generate(new Random(ordinal() * 31L + 7));
+    }
+
+    public byte[] bytes() {
+        return text().getBytes(StandardCharsets.UTF_8);
+    }
+}
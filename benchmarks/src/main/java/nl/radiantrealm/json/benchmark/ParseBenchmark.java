@@ -0,0 +1,72 @@
+package nl.radiantrealm.json.benchmark;
+
+import nl.radiantrealm.json.JsonElement;
+import nl.radiantrealm.json.JsonLimits;
+import nl.radiantrealm.json.JsonParser;
+import nl.radiantrealm.json.JsonReader;
+import nl.radiantrealm.json.JsonStructuralIndex;
+import nl.radiantrealm.json.JsonToken;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class ParseBenchmark {
+    static final JsonLimits LIMITS = JsonLimits.DEFAULT.withMaxDepth(4096);
+
+    @Param
+    public JsonCorpus corpus;
+
+    private String text;
+    private byte[] bytes;
+    private JsonParser pooled;
+
+    @Setup
+    public void setup() {
+        text = corpus.text();
+        bytes = corpus.bytes();
+        pooled = new JsonParser().setLimits(LIMITS);
+    }
+
+    @Benchmark
+    public JsonElement parseString() {
+        return new JsonParser(text).setLimits(LIMITS).getJsonElement();
+    }
+
+    @Benchmark
+    public JsonElement parseBytes() {
+        return new JsonParser(bytes).setLimits(LIMITS).getJsonElement();
+    }
+
+    @Benchmark
+    public JsonElement parseBytesReused() {
+        return pooled.reset(bytes).getJsonElement();
+    }
+
+    @Benchmark
+    public JsonElement parseIndexed() {
+        return new JsonParser(JsonStructuralIndex.build(bytes)).setLimits(LIMITS).getJsonElement();
+    }
+
+    @Benchmark
+    public JsonElement parseLazy() {
+        JsonParser parser = new JsonParser(bytes).setLimits(LIMITS);
+        return bytes[0] == '[' ? parser.getLazyJsonArray() : parser.getLazyJsonObject();
+    }
+
+    @Benchmark
+    public void streamTokens(Blackhole blackhole) {
+        JsonReader reader = new JsonReader(bytes).setLimits(LIMITS);
+        JsonToken token;
+
+        while ((token = reader.nextToken()) != JsonToken.END_DOCUMENT) {
+            blackhole.consume(token);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package nl.radiantrealm.json.benchmark;
+
+import nl.radiantrealm.json.JsonElement;
+import nl.radiantrealm.json.JsonParser;
+import nl.radiantrealm.json.JsonWriter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class SerializeBenchmark {
+
+    @Param
+    public JsonCorpus corpus;
+
+    private JsonElement tree;
+    private ByteArrayOutputStream output;
+    private JsonWriter writer;
+
+    @Setup
+    public void setup() {
+        tree = new JsonParser(corpus.text()).setLimits(ParseBenchmark.LIMITS).getJsonElement();
+        output = new ByteArrayOutputStream(1 << 20);
+        writer = new JsonWriter(output);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return tree.toString();
+    }
+
+    @Benchmark
+    public String toPrettyJsonString() {
+        return tree.toString(true);
+    }
+
+    @Benchmark
+    public int writeBytesReused() throws IOException {
+        output.reset();
+        writer.reset(output).value(tree).flush();
+        return output.size();
+    }
+}
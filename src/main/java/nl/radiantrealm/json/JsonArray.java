@@ -1,15 +1,29 @@
 package nl.radiantrealm.json;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 public class JsonArray extends JsonElement implements Iterable<JsonElement> {
-    private final ArrayList<JsonElement> list;
+    private ArrayList<JsonElement> list;
+    long[] longs;
+    double[] doubles;
+    private int count;
+    private boolean frozen;
+    private int hash;
+    private long stamp;
 
     public JsonArray() {
-        this.list = new ArrayList<>();
     }
 
     public JsonArray(int capacity) {
@@ -18,33 +32,214 @@ public class JsonArray extends JsonElement implements Iterable<JsonElement> {
 
     @Override
     public JsonElement deepCopy() {
-        if (list.isEmpty()) {
-            return new JsonArray();
+        return copyTree(this);
+    }
+
+    @Override
+    public JsonArray freeze() {
+        freezeTree(this);
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    int cachedHash() {
+        return frozen || stamp == hashStamp() ? hash : 0;
+    }
+
+    @Override
+    void cacheHash(int hash) {
+        this.hash = hash;
+        this.stamp = hashStamp();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
+        }
+
+        if (!(object instanceof JsonArray other)) {
+            return false;
+        }
+
+        if (isFrozen() && other.isFrozen() && hashCode() != other.hashCode()) {
+            return false;
+        }
+
+        return equivalent(this, other);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = cachedHash();
+        return hash != 0 ? hash : hashTree(this);
+    }
+
+    @Override
+    boolean markFrozen() {
+        if (frozen) {
+            return false;
         }
 
-        JsonArray array = new JsonArray(list.size());
+        frozen = true;
+        return true;
+    }
+
+    public JsonArray with(int index, JsonElement element) {
+        JsonArray array = frozenCopy(0);
+        array.set(index, element == null ? JsonNull.INSTANCE : element.freeze());
+        array.frozen = true;
+        return array;
+    }
+
+    public JsonArray withAdded(JsonElement element) {
+        JsonArray array = frozenCopy(1);
+        array.add(element == null ? JsonNull.INSTANCE : element.freeze());
+        array.frozen = true;
+        return array;
+    }
+
+    public JsonArray without(int index) {
+        JsonArray array = frozenCopy(0);
+        array.remove(index);
+        array.frozen = true;
+        return array;
+    }
+
+    private JsonArray frozenCopy(int extra) {
+        JsonArray source = frozen ? this : ((JsonArray) deepCopy()).freeze();
+        JsonArray array = new JsonArray();
 
-        for (JsonElement element : list) {
-            array.add(element);
+        if (!array.copyNumbers(source, extra)) {
+            array.list = new ArrayList<>(source.size() + extra);
+
+            if (source.list != null) {
+                array.list.addAll(source.list);
+            }
         }
 
         return array;
     }
 
+    boolean copyNumbers(JsonArray source, int extra) {
+        if (source.list != null || (source.longs == null && source.doubles == null)) {
+            return false;
+        }
+
+        list = null;
+        longs = source.longs == null ? null : Arrays.copyOf(source.longs, source.count + extra);
+        doubles = source.doubles == null ? null : Arrays.copyOf(source.doubles, source.count + extra);
+        count = source.count;
+        return true;
+    }
+
+    private ArrayList<JsonElement> elements() {
+        if (list == null) {
+            ArrayList<JsonElement> elements = new ArrayList<>(Math.max(count, 10));
+
+            for (int i = 0; i < count; i++) {
+                elements.add(number(i));
+            }
+
+            list = elements;
+            longs = null;
+            doubles = null;
+            count = 0;
+        }
+
+        return list;
+    }
+
+    private JsonElement number(int index) {
+        return longs != null ? JsonPrimitive.of(longs[index]) : JsonPrimitive.of(doubles[index]);
+    }
+
+    private boolean storesLongs() {
+        return list == null && doubles == null;
+    }
+
+    private boolean storesDoubles() {
+        return list == null && longs == null;
+    }
+
+    void addLong(long value) {
+        checkMutable();
+
+        if (!storesLongs()) {
+            elements().add(JsonPrimitive.of(value));
+            return;
+        }
+
+        if (longs == null) {
+            longs = new long[8];
+        } else if (count == longs.length) {
+            longs = Arrays.copyOf(longs, count * 2);
+        }
+
+        longs[count++] = value;
+    }
+
+    void addDouble(double value) {
+        checkMutable();
+
+        if (!storesDoubles()) {
+            elements().add(JsonPrimitive.of(value));
+            return;
+        }
+
+        if (doubles == null) {
+            doubles = new double[8];
+        } else if (count == doubles.length) {
+            doubles = Arrays.copyOf(doubles, count * 2);
+        }
+
+        doubles[count++] = value;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Json Array is frozen.");
+        }
+
+        invalidateHashes(stamp);
+    }
+
     public void add(JsonElement element) {
-        list.add(element == null ? JsonNull.INSTANCE : element);
+        switch (element) {
+            case JsonLongPrimitive primitive when storesLongs() -> addLong(primitive.value);
+            case JsonDoublePrimitive primitive when storesDoubles() -> addDouble(primitive.value);
+            case null -> add(JsonNull.INSTANCE);
+
+            default -> {
+                checkMutable();
+                elements().add(element);
+            }
+        }
     }
 
     public void add(Boolean bool) {
-        list.add(bool == null ? JsonNull.INSTANCE : new JsonPrimitive(bool));
+        add(bool == null ? JsonNull.INSTANCE : new JsonPrimitive(bool));
     }
 
     public void add(Number number) {
-        list.add(number == null ? JsonNull.INSTANCE : new JsonPrimitive(number));
+        add(number == null ? JsonNull.INSTANCE : new JsonPrimitive(number));
+    }
+
+    public void add(long number) {
+        add(JsonPrimitive.of(number));
+    }
+
+    public void add(double number) {
+        add(JsonPrimitive.of(number));
     }
 
     public void add(String string) {
-        list.add(string == null ? JsonNull.INSTANCE : new JsonPrimitive(string));
+        add(string == null ? JsonNull.INSTANCE : new JsonPrimitive(string));
     }
 
     public void add(UUID uuid) {
@@ -56,31 +251,250 @@ public class JsonArray extends JsonElement implements Iterable<JsonElement> {
     }
 
     public void addAll(JsonArray array) {
-        list.addAll(array.list);
+        checkMutable();
+        int size = array.size();
+
+        for (int i = 0; i < size; i++) {
+            add(array.get(i));
+        }
+    }
+
+    public void add(int index, JsonElement element) {
+        checkMutable();
+
+        if (list == null && index == count) {
+            add(element);
+            return;
+        }
+
+        switch (element) {
+            case JsonLongPrimitive primitive when longs != null && storesLongs() -> {
+                Objects.checkIndex(index, count);
+                addLong(0);
+                System.arraycopy(longs, index, longs, index + 1, count - index - 1);
+                longs[index] = primitive.value;
+            }
+
+            case JsonDoublePrimitive primitive when doubles != null && storesDoubles() -> {
+                Objects.checkIndex(index, count);
+                addDouble(0);
+                System.arraycopy(doubles, index, doubles, index + 1, count - index - 1);
+                doubles[index] = primitive.value;
+            }
+
+            case null -> elements().add(index, JsonNull.INSTANCE);
+            default -> elements().add(index, element);
+        }
+    }
+
+    public JsonElement set(int index, JsonElement element) {
+        checkMutable();
+
+        if (list == null) {
+            Objects.checkIndex(index, count);
+            JsonElement previous = number(index);
+
+            if (longs != null && element instanceof JsonLongPrimitive primitive) {
+                longs[index] = primitive.value;
+                return previous;
+            }
+
+            if (doubles != null && element instanceof JsonDoublePrimitive primitive) {
+                doubles[index] = primitive.value;
+                return previous;
+            }
+        }
+
+        return elements().set(index, element == null ? JsonNull.INSTANCE : element);
+    }
+
+    public JsonElement get(int index) {
+        if (list != null) {
+            return list.get(index);
+        }
+
+        Objects.checkIndex(index, count);
+        return number(index);
     }
 
     public void remove(JsonElement element) {
-        list.remove(element);
+        checkMutable();
+        int size = size();
+
+        for (int i = 0; i < size; i++) {
+            if (get(i).equals(element)) {
+                remove(i);
+                return;
+            }
+        }
+    }
+
+    public JsonElement remove(int index) {
+        checkMutable();
+
+        if (list != null) {
+            return list.remove(index);
+        }
+
+        Objects.checkIndex(index, count);
+        JsonElement previous = number(index);
+
+        if (longs != null) {
+            System.arraycopy(longs, index + 1, longs, index, count - index - 1);
+        } else {
+            System.arraycopy(doubles, index + 1, doubles, index, count - index - 1);
+        }
+
+        count--;
+        return previous;
     }
 
     public boolean contains(JsonElement element) {
-        return list.contains(element);
+        int size = size();
+
+        for (int i = 0; i < size; i++) {
+            if (get(i).equals(element)) {
+                return true;
+            }
+        }
+
+        return false;
     }
 
     public int size() {
-        return list.size();
+        return list != null ? list.size() : count;
     }
 
     public boolean isEmpty() {
-        return list.isEmpty();
+        return size() == 0;
+    }
+
+    public long[] toLongArray() {
+        if (list == null && longs != null) {
+            return Arrays.copyOf(longs, count);
+        }
+
+        long[] values = new long[size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(i).getAsLong();
+        }
+
+        return values;
+    }
+
+    public double[] toDoubleArray() {
+        if (list == null && doubles != null) {
+            return Arrays.copyOf(doubles, count);
+        }
+
+        double[] values = new double[size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = list == null && longs != null ? longs[i] : get(i).getAsDouble();
+        }
+
+        return values;
+    }
+
+    public LongStream longStream() {
+        if (list == null && longs != null) {
+            return Arrays.stream(longs, 0, count);
+        }
+
+        return IntStream.range(0, size()).mapToLong(index -> get(index).getAsLong());
+    }
+
+    public DoubleStream doubleStream() {
+        if (list == null && doubles != null) {
+            return Arrays.stream(doubles, 0, count);
+        }
+
+        if (list == null && longs != null) {
+            return Arrays.stream(longs, 0, count).asDoubleStream();
+        }
+
+        return IntStream.range(0, size()).mapToDouble(index -> get(index).getAsDouble());
     }
 
     @Override
     public Iterator<JsonElement> iterator() {
-        return list.iterator();
+        if (list != null) {
+            return asList().iterator();
+        }
+
+        return new Iterator<>() {
+            private int index;
+            private int last = -1;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public JsonElement next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                if (list != null) {
+                    throw new ConcurrentModificationException();
+                }
+
+                last = index;
+                return number(index++);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+
+                JsonArray.this.remove(last);
+                index = last;
+                last = -1;
+            }
+        };
     }
 
     public List<JsonElement> asList() {
-        return list;
+        if (frozen) {
+            return list == null ? new Elements() : Collections.unmodifiableList(list);
+        }
+
+        return new Elements() {
+
+            @Override
+            public JsonElement set(int index, JsonElement element) {
+                return JsonArray.this.set(index, element);
+            }
+
+            @Override
+            public void add(int index, JsonElement element) {
+                JsonArray.this.add(index, element);
+                modCount++;
+            }
+
+            @Override
+            public JsonElement remove(int index) {
+                modCount++;
+                return JsonArray.this.remove(index);
+            }
+        };
+    }
+
+    private class Elements extends AbstractList<JsonElement> {
+
+        @Override
+        public JsonElement get(int index) {
+            return JsonArray.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return JsonArray.this.size();
+        }
     }
 }
@@ -0,0 +1,384 @@
+package nl.radiantrealm.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+abstract class JsonBeanCodec implements JsonCodec {
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    final Class<?> type;
+
+    private volatile Property[] properties;
+    private HashMap<String, Integer> index;
+
+    JsonBeanCodec(Class<?> type) {
+        this.type = type;
+    }
+
+    static JsonBeanCodec of(Class<?> type) {
+        if (type.isInterface() || type.isPrimitive() || Modifier.isAbstract(type.getModifiers())) {
+            throw new JsonException(String.format("Type '%s' cannot be bound.", type.getName()));
+        }
+
+        if (JsonConvertible.class.isAssignableFrom(type)) {
+            MethodHandle constructor = JsonMapper.convertibleConstructor(type);
+
+            if (constructor != null) {
+                return new Convertible(type, constructor);
+            }
+        }
+
+        return type.isRecord() ? new RecordCodec(type) : new PojoCodec(type);
+    }
+
+    static MethodHandles.Lookup lookup(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            return MethodHandles.publicLookup();
+        }
+    }
+
+    static RuntimeException rethrow(Throwable e) {
+        return switch (e) {
+            case RuntimeException exception -> exception;
+            case Error error -> throw error;
+            default -> new JsonException(String.format("Failed to bind value: %s", e), e);
+        };
+    }
+
+    abstract Property[] createProperties() throws ReflectiveOperationException;
+
+    final Property[] properties() {
+        Property[] result = properties;
+
+        if (result == null) {
+            try {
+                result = createProperties();
+            } catch (ReflectiveOperationException e) {
+                throw new JsonException(String.format("Type '%s' cannot be bound: %s", type.getName(), e.getMessage()));
+            }
+
+            HashMap<String, Integer> names = new HashMap<>();
+
+            for (int i = 0; i < result.length; i++) {
+                names.put(result[i].name, i);
+            }
+
+            index = names;
+            properties = result;
+        }
+
+        return result;
+    }
+
+    final int indexOf(String name) {
+        Integer i = index.get(name);
+        return i == null ? -1 : i;
+    }
+
+    @Override
+    public JsonElement encode(Object value) {
+        if (value == null) {
+            return JsonNull.INSTANCE;
+        }
+
+        Property[] properties = properties();
+        JsonObject object = new JsonObject(properties.length);
+
+        for (Property property : properties) {
+            object.add(property.name, property.codec().encode(property.get(value)));
+        }
+
+        return object;
+    }
+
+    @Override
+    public void write(JsonWriter writer, Object value) {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+
+        for (Property property : properties()) {
+            writer.name(property.name);
+            property.codec().write(writer, property.get(value));
+        }
+
+        writer.endObject();
+    }
+
+    static final class Property {
+        final String name;
+        final Type genericType;
+        final Object defaultValue;
+
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private JsonCodec codec;
+
+        Property(String name, Type genericType, Class<?> rawType, MethodHandle getter, MethodHandle setter) {
+            this.name = name;
+            this.genericType = genericType;
+            this.defaultValue = JsonCodecs.defaultValue(rawType);
+            this.getter = getter.asType(GETTER);
+            this.setter = setter == null ? null : setter.asType(SETTER);
+        }
+
+        JsonCodec codec() {
+            JsonCodec result = codec;
+
+            if (result == null) {
+                result = codec = JsonCodecs.of(genericType);
+            }
+
+            return result;
+        }
+
+        Object get(Object instance) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        void set(Object instance, Object value) {
+            try {
+                setter.invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+    }
+
+    private static final class RecordCodec extends JsonBeanCodec {
+        private MethodHandle constructor;
+
+        RecordCodec(Class<?> type) {
+            super(type);
+        }
+
+        @Override
+        Property[] createProperties() throws ReflectiveOperationException {
+            MethodHandles.Lookup lookup = lookup(type);
+            RecordComponent[] components = type.getRecordComponents();
+            Property[] result = new Property[components.length];
+            Class<?>[] parameters = new Class<?>[components.length];
+
+            for (int i = 0; i < components.length; i++) {
+                RecordComponent component = components[i];
+                parameters[i] = component.getType();
+                result[i] = new Property(component.getName(), component.getGenericType(), component.getType(), lookup.unreflect(component.getAccessor()), null);
+            }
+
+            constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameters))
+                    .asType(MethodType.genericMethodType(components.length))
+                    .asSpreader(Object[].class, components.length);
+
+            return result;
+        }
+
+        private Object construct(Object[] arguments) {
+            try {
+                return (Object) constructor.invokeExact(arguments);
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public Object decode(JsonElement element) {
+            if (element == null || element instanceof JsonNull) {
+                return null;
+            }
+
+            JsonObject object = element.getAsJsonObject();
+            Property[] properties = properties();
+            Object[] arguments = new Object[properties.length];
+
+            for (int i = 0; i < properties.length; i++) {
+                Property property = properties[i];
+                JsonElement value = object.get(property.name);
+                arguments[i] = value == null ? property.defaultValue : property.codec().decode(value);
+            }
+
+            return construct(arguments);
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+
+            Property[] properties = properties();
+            Object[] arguments = new Object[properties.length];
+
+            for (int i = 0; i < properties.length; i++) {
+                arguments[i] = properties[i].defaultValue;
+            }
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                int i = indexOf(reader.nextName());
+
+                if (i < 0) {
+                    reader.skipValue();
+                } else {
+                    arguments[i] = properties[i].codec().read(reader);
+                }
+            }
+
+            reader.endObject();
+            return construct(arguments);
+        }
+    }
+
+    private static final class PojoCodec extends JsonBeanCodec {
+        private MethodHandle constructor;
+
+        PojoCodec(Class<?> type) {
+            super(type);
+        }
+
+        @Override
+        Property[] createProperties() throws ReflectiveOperationException {
+            MethodHandles.Lookup lookup = lookup(type);
+            List<Property> result = new ArrayList<>();
+            List<Class<?>> hierarchy = new ArrayList<>();
+
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                hierarchy.addFirst(current);
+            }
+
+            for (Class<?> current : hierarchy) {
+                MethodHandles.Lookup fieldLookup = current == type ? lookup : lookup(current);
+
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+
+                    if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || Modifier.isFinal(modifiers) || field.isSynthetic()) {
+                        continue;
+                    }
+
+                    result.add(new Property(field.getName(), field.getGenericType(), field.getType(), fieldLookup.unreflectGetter(field), fieldLookup.unreflectSetter(field)));
+                }
+            }
+
+            constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+
+            return result.toArray(new Property[0]);
+        }
+
+        private Object construct() {
+            try {
+                return (Object) constructor.invokeExact();
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public Object decode(JsonElement element) {
+            if (element == null || element instanceof JsonNull) {
+                return null;
+            }
+
+            JsonObject object = element.getAsJsonObject();
+            Property[] properties = properties();
+            Object instance = construct();
+
+            for (Property property : properties) {
+                JsonElement value = object.get(property.name);
+
+                if (value != null) {
+                    property.set(instance, property.codec().decode(value));
+                }
+            }
+
+            return instance;
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+
+            Property[] properties = properties();
+            Object instance = construct();
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                int i = indexOf(reader.nextName());
+
+                if (i < 0) {
+                    reader.skipValue();
+                } else {
+                    properties[i].set(instance, properties[i].codec().read(reader));
+                }
+            }
+
+            reader.endObject();
+            return instance;
+        }
+    }
+
+    private static final class Convertible extends JsonBeanCodec {
+        private final MethodHandle constructor;
+
+        Convertible(Class<?> type, MethodHandle constructor) {
+            super(type);
+            this.constructor = constructor;
+        }
+
+        @Override
+        Property[] createProperties() {
+            return new Property[0];
+        }
+
+        @Override
+        public JsonElement encode(Object value) {
+            return value == null ? JsonNull.INSTANCE : ((JsonConvertible) value).toJson();
+        }
+
+        @Override
+        public void write(JsonWriter writer, Object value) {
+            writer.value(value == null ? null : ((JsonConvertible) value).toJson());
+        }
+
+        @Override
+        public Object decode(JsonElement element) {
+            if (element == null || element instanceof JsonNull) {
+                return null;
+            }
+
+            try {
+                return (Object) constructor.invokeExact(element.getAsJsonObject());
+            } catch (Throwable e) {
+                throw rethrow(e);
+            }
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            return decode(reader.nextJsonElement());
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package nl.radiantrealm.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+class JsonByteLexer extends JsonLexer {
+    private static final int BUFFER_SIZE = 8192;
+    private static final long WINDOW_SIZE = 1L << 30;
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long ONES = 0x0101010101010101L;
+    private static final long HIGHS = 0x8080808080808080L;
+
+    private final InputStream stream;
+    private final ByteBuffer[] windows;
+    private ByteBuffer buffer;
+    private int window;
+
+    byte[] buf;
+    int pos;
+    int limit;
+    long consumed;
+
+    private byte[] scratch = new byte[64];
+    private int scratchLength;
+
+    JsonByteLexer(byte[] input, int offset, int length) {
+        this.stream = null;
+        this.windows = null;
+        this.buf = input;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.consumed = -offset;
+    }
+
+    void reset(byte[] input, int offset, int length) {
+        this.buf = input;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.consumed = -offset;
+    }
+
+    JsonByteLexer(ByteBuffer input) {
+        if (input.hasArray()) {
+            this.stream = null;
+            this.windows = null;
+            this.buf = input.array();
+            this.pos = input.arrayOffset() + input.position();
+            this.limit = input.arrayOffset() + input.limit();
+            this.consumed = -pos;
+        } else {
+            this.stream = null;
+            this.windows = new ByteBuffer[] {input.slice()};
+            this.buffer = windows[0];
+            this.buf = new byte[Math.min(BUFFER_SIZE, Math.max(input.remaining(), 1))];
+        }
+    }
+
+    JsonByteLexer(InputStream input) {
+        this.stream = input;
+        this.windows = null;
+        this.buf = new byte[BUFFER_SIZE];
+    }
+
+    JsonByteLexer(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ByteBuffer[] mapped = new ByteBuffer[(int) Math.max(1, (size + WINDOW_SIZE - 1) / WINDOW_SIZE)];
+
+            for (int i = 0; i < mapped.length; i++) {
+                long offset = i * WINDOW_SIZE;
+                mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(WINDOW_SIZE, size - offset));
+            }
+
+            this.stream = null;
+            this.windows = mapped;
+            this.buffer = mapped[0];
+            this.buf = new byte[BUFFER_SIZE];
+        }
+    }
+
+    private boolean fill() {
+        if (stream == null && buffer == null) {
+            return false;
+        }
+
+        consumed += limit;
+        pos = 0;
+        limit = 0;
+
+        if (buffer != null) {
+            while (!buffer.hasRemaining()) {
+                if (++window == windows.length) {
+                    buffer = null;
+                    return false;
+                }
+
+                buffer = windows[window];
+            }
+
+            int length = Math.min(buffer.remaining(), buf.length);
+            buffer.get(buf, 0, length);
+            limit = length;
+            checkDocumentLength();
+            return true;
+        }
+
+        try {
+            while (limit == 0) {
+                int length = stream.read(buf, 0, buf.length);
+
+                if (length < 0) {
+                    return false;
+                }
+
+                limit = length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        checkDocumentLength();
+        return true;
+    }
+
+    @Override
+    void checkDocumentLength() {
+        if (consumed + limit > limits.maxDocumentLength()) {
+            throw JsonLimits.exceeded("Document length", limits.maxDocumentLength(), Math.max(position(), limits.maxDocumentLength()));
+        }
+    }
+
+    @Override
+    char read() {
+        if (pos < limit || fill()) {
+            return (char) (buf[pos++] & 0xFF);
+        }
+
+        throw endOfInput();
+    }
+
+    @Override
+    int peek() {
+        if (pos < limit || fill()) {
+            return buf[pos] & 0xFF;
+        }
+
+        return -1;
+    }
+
+    @Override
+    long position() {
+        return consumed + pos;
+    }
+
+    @Override
+    boolean isSeekable() {
+        return stream == null && windows == null;
+    }
+
+    @Override
+    void seek(long position) {
+        if (!isSeekable()) {
+            super.seek(position);
+        }
+
+        pos = (int) (position - consumed);
+    }
+
+    @Override
+    JsonLexer duplicate() {
+        if (!isSeekable()) {
+            return super.duplicate();
+        }
+
+        JsonByteLexer copy = adopt(new JsonByteLexer(buf, pos, limit - pos));
+        copy.consumed = consumed;
+        return copy;
+    }
+
+    @Override
+    char next() {
+        while (pos < limit || fill()) {
+            int c = buf[pos++] & 0xFF;
+
+            if (!isWhitespace(c)) {
+                return (char) c;
+            }
+        }
+
+        throw endOfInput();
+    }
+
+    @Override
+    String readString() {
+        scratchLength = 0;
+        int start = pos;
+
+        while (true) {
+            int end = (int) Math.min(limit, (long) start + limits.maxStringLength() - scratchLength + 1);
+            int i = scanString(pos, end);
+
+            if (i == end && end < limit) {
+                pos = i;
+                checkStringLength((long) scratchLength + i - start);
+            }
+
+            if (i == limit) {
+                append(buf, start, limit - start);
+                pos = limit;
+
+                if (!fill()) {
+                    throw endOfInput();
+                }
+
+                start = pos;
+                continue;
+            }
+
+            byte b = buf[i];
+            pos = i + 1;
+
+            if (b == '"') {
+                if (scratchLength == 0) {
+                    checkStringLength(i - start);
+                    return new String(buf, start, i - start, StandardCharsets.UTF_8);
+                }
+
+                append(buf, start, i - start);
+                return new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+            }
+
+            if (b != '\\') {
+                throw unexpected((char) b);
+            }
+
+            append(buf, start, i - start);
+            readEscape();
+            start = pos;
+        }
+    }
+
+    private int scanString(int from, int to) {
+        int i = from;
+
+        while (i + 8 <= to) {
+            long word = (long) LONGS.get(buf, i);
+            long quote = word ^ (ONES * '"');
+            long backslash = word ^ (ONES * '\\');
+
+            long mask = ((quote - ONES) & ~quote)
+                    | ((backslash - ONES) & ~backslash)
+                    | ((word - ONES * 0x20) & ~word);
+
+            mask &= HIGHS;
+
+            if (mask != 0) {
+                return i + (Long.numberOfTrailingZeros(mask) >>> 3);
+            }
+
+            i += 8;
+        }
+
+        while (i < to) {
+            byte b = buf[i];
+
+            if (b == '"' || b == '\\' || (b >= 0 && b < 0x20)) {
+                return i;
+            }
+
+            i++;
+        }
+
+        return to;
+    }
+
+    @Override
+    String readKey() {
+        JsonSymbolTable table = symbols;
+
+        if (table != null) {
+            int end = Math.min(limit, pos + JsonSymbolTable.MAX_LENGTH + 1);
+            int hash = 0;
+
+            for (int i = pos; i < end; i++) {
+                byte b = buf[i];
+
+                if (b == '"') {
+                    checkStringLength(i - pos);
+                    String key = table.lookup(buf, pos, i - pos, hash);
+                    pos = i + 1;
+                    return key;
+                }
+
+                if (b == '\\' || (b >= 0 && b < 0x20)) {
+                    break;
+                }
+
+                hash = 31 * hash + b;
+            }
+        }
+
+        return readString();
+    }
+
+    @Override
+    void skipString() {
+        while (true) {
+            int i = scanString(pos, limit);
+
+            if (i == limit) {
+                pos = limit;
+
+                if (!fill()) {
+                    throw endOfInput();
+                }
+
+                continue;
+            }
+
+            byte b = buf[i];
+            pos = i + 1;
+
+            if (b == '"') {
+                return;
+            }
+
+            if (b == '\\') {
+                read();
+            }
+        }
+    }
+
+    private void readEscape() {
+        char c = read();
+
+        switch (c) {
+            case '"', '\\', '/' -> append((byte) c);
+            case 'b' -> append((byte) '\b');
+            case 'n' -> append((byte) '\n');
+            case 'r' -> append((byte) '\r');
+            case 't' -> append((byte) '\t');
+            case 'f' -> append((byte) '\f');
+
+            case 'u' -> appendCodePoint(readCodePoint());
+            default -> throw unexpected(c);
+        }
+    }
+
+    private void appendCodePoint(int code) {
+        if (code < 0x80) {
+            append((byte) code);
+        } else if (code < 0x800) {
+            append((byte) (0xC0 | (code >> 6)));
+            append((byte) (0x80 | (code & 0x3F)));
+        } else if (code < 0x10000) {
+            append((byte) (0xE0 | (code >> 12)));
+            append((byte) (0x80 | ((code >> 6) & 0x3F)));
+            append((byte) (0x80 | (code & 0x3F)));
+        } else {
+            append((byte) (0xF0 | (code >> 18)));
+            append((byte) (0x80 | ((code >> 12) & 0x3F)));
+            append((byte) (0x80 | ((code >> 6) & 0x3F)));
+            append((byte) (0x80 | (code & 0x3F)));
+        }
+    }
+
+    private void append(byte b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratchLength * 2);
+        }
+
+        scratch[scratchLength++] = b;
+    }
+
+    private void append(byte[] bytes, int offset, int length) {
+        checkStringLength((long) scratchLength + length);
+
+        if (scratchLength + length > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + length));
+        }
+
+        System.arraycopy(bytes, offset, scratch, scratchLength, length);
+        scratchLength += length;
+    }
+}
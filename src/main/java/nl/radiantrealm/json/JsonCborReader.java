@@ -0,0 +1,654 @@
+package nl.radiantrealm.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Objects;
+
+import static nl.radiantrealm.json.JsonCborWriter.*;
+
+public class JsonCborReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream stream;
+
+    private byte[] buf;
+    private int pos;
+    private int limit;
+    private long consumed;
+
+    private long[] remaining = new long[32];
+    private long[] items = new long[32];
+    private boolean[] maps = new boolean[32];
+    private int depth;
+
+    private JsonToken peeked;
+    private boolean started;
+    private int major;
+    private int info;
+    private long argument;
+    private int tag = -1;
+    private String reference;
+
+    private ArrayList<String> references;
+    private JsonSymbolTable symbols = JsonSymbolTable.SHARED;
+    private JsonLimits limits = JsonLimits.DEFAULT;
+
+    public JsonCborReader(byte[] input) {
+        this(input, 0, input.length);
+    }
+
+    public JsonCborReader(byte[] input, int offset, int length) {
+        this.stream = null;
+        this.buf = input;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.consumed = -offset;
+    }
+
+    public JsonCborReader(InputStream input) {
+        this.stream = input;
+        this.buf = new byte[BUFFER_SIZE];
+    }
+
+    public static JsonElement decode(byte[] input) {
+        return new JsonCborReader(input).nextJsonElement();
+    }
+
+    public JsonCborReader setSymbolTable(JsonSymbolTable symbols) {
+        this.symbols = symbols;
+        return this;
+    }
+
+    public JsonCborReader setLimits(JsonLimits limits) {
+        this.limits = Objects.requireNonNull(limits);
+        return this;
+    }
+
+    public JsonToken peek() {
+        if (peeked != null) {
+            return peeked;
+        }
+
+        if (depth == 0) {
+            if (started) {
+                return peeked = JsonToken.END_DOCUMENT;
+            }
+
+            started = true;
+            return peeked = readHead(false);
+        }
+
+        int top = depth - 1;
+
+        if (remaining[top] == 0 || (remaining[top] < 0 && peekByte() == BREAK)) {
+            return peeked = maps[top] ? JsonToken.END_OBJECT : JsonToken.END_ARRAY;
+        }
+
+        return peeked = readHead(maps[top] && (items[top] & 1) == 0);
+    }
+
+    private JsonToken readHead(boolean name) {
+        tag = -1;
+        reference = null;
+
+        while (true) {
+            int initial = readByte();
+            major = initial >>> 5;
+            info = initial & 0x1F;
+            argument = readArgument(info);
+
+            if (major != MAJOR_TAG) {
+                break;
+            }
+
+            switch ((int) argument) {
+                case TAG_STRING_NAMESPACE -> references = new ArrayList<>();
+
+                case TAG_STRING_REFERENCE -> {
+                    int head = readByte();
+                    long index = readArgument(head & 0x1F);
+
+                    if (head >>> 5 != MAJOR_UNSIGNED || references == null || index >= references.size()) {
+                        throw malformed("Invalid string reference");
+                    }
+
+                    reference = references.get((int) index);
+                    return name ? JsonToken.NAME : JsonToken.STRING;
+                }
+
+                case TAG_POSITIVE_BIGNUM, TAG_NEGATIVE_BIGNUM, TAG_DECIMAL_FRACTION -> tag = (int) argument;
+                default -> {
+                }
+            }
+        }
+
+        if (tag >= 0) {
+            if (name) {
+                throw malformed("Unsupported map key");
+            }
+
+            return JsonToken.NUMBER;
+        }
+
+        JsonToken token = switch (major) {
+            case MAJOR_UNSIGNED, MAJOR_NEGATIVE -> JsonToken.NUMBER;
+            case MAJOR_BYTES, MAJOR_TEXT -> JsonToken.STRING;
+            case MAJOR_ARRAY -> JsonToken.BEGIN_ARRAY;
+            case MAJOR_MAP -> JsonToken.BEGIN_OBJECT;
+
+            default -> switch (info) {
+                case 20, 21 -> JsonToken.BOOLEAN;
+                case 22, 23 -> JsonToken.NULL;
+                case 25, 26, 27 -> JsonToken.NUMBER;
+                default -> throw malformed("Unexpected simple value " + info);
+            };
+        };
+
+        if (name) {
+            if (token != JsonToken.STRING && token != JsonToken.NUMBER) {
+                throw malformed("Unsupported map key");
+            }
+
+            return JsonToken.NAME;
+        }
+
+        return token;
+    }
+
+    private long readArgument(int info) {
+        return switch (info) {
+            case 24 -> readByte();
+            case 25 -> readBytes(2);
+            case 26 -> readBytes(4);
+            case 27 -> readBytes(8);
+            case 28, 29, 30 -> throw malformed("Reserved additional information " + info);
+            default -> info;
+        };
+    }
+
+    private long readBytes(int count) {
+        ensure(count);
+        long value = 0;
+
+        for (int i = 0; i < count; i++) {
+            value = (value << 8) | (buf[pos++] & 0xFF);
+        }
+
+        return value;
+    }
+
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    public void beginObject() {
+        consume(JsonToken.BEGIN_OBJECT);
+        push(true, info == 31 ? -1 : argument * 2);
+    }
+
+    public void endObject() {
+        consume(JsonToken.END_OBJECT);
+        pop();
+    }
+
+    public void beginArray() {
+        consume(JsonToken.BEGIN_ARRAY);
+        push(false, info == 31 ? -1 : argument);
+    }
+
+    public void endArray() {
+        consume(JsonToken.END_ARRAY);
+        pop();
+    }
+
+    private void push(boolean map, long count) {
+        if (count < -1) {
+            throw malformed("Container too large");
+        }
+
+        if (depth == maps.length) {
+            remaining = Arrays.copyOf(remaining, depth * 2);
+            items = Arrays.copyOf(items, depth * 2);
+            maps = Arrays.copyOf(maps, depth * 2);
+        }
+
+        remaining[depth] = count;
+        items[depth] = 0;
+        maps[depth++] = map;
+    }
+
+    private void pop() {
+        if (remaining[--depth] < 0) {
+            readByte();
+        }
+    }
+
+    public String nextName() {
+        consume(JsonToken.NAME);
+        return readText(true);
+    }
+
+    public String nextString() {
+        JsonToken token = peek();
+
+        return switch (token) {
+            case STRING -> {
+                consume(token);
+                yield readText(false);
+            }
+
+            case NUMBER -> nextNumber().toString();
+            default -> throw unexpectedToken(JsonToken.STRING, token);
+        };
+    }
+
+    public boolean nextBoolean() {
+        consume(JsonToken.BOOLEAN);
+        return info == 21;
+    }
+
+    public void nextNull() {
+        consume(JsonToken.NULL);
+    }
+
+    public Number nextNumber() {
+        consume(JsonToken.NUMBER);
+
+        return switch (tag) {
+            case TAG_POSITIVE_BIGNUM, TAG_NEGATIVE_BIGNUM -> readBigInteger(tag);
+            case TAG_DECIMAL_FRACTION -> readDecimalFraction();
+            default -> readScalarNumber();
+        };
+    }
+
+    public long nextLong() {
+        Number number = nextNumber();
+
+        return switch (number) {
+            case Long value -> value;
+
+            case Double value -> {
+                if (value != (long) (double) value) {
+                    throw new JsonException(String.format("Number %s is not a long at position %s", value, getPosition()));
+                }
+
+                yield (long) (double) value;
+            }
+
+            default -> {
+                try {
+                    yield new BigDecimal(number.toString()).longValueExact();
+                } catch (ArithmeticException e) {
+                    throw new JsonException(String.format("Number %s is not a long at position %s", number, getPosition()));
+                }
+            }
+        };
+    }
+
+    public double nextDouble() {
+        return nextNumber().doubleValue();
+    }
+
+    private Number readScalarNumber() {
+        if (major == MAJOR_SIMPLE) {
+            return switch (info) {
+                case 25 -> (double) Float.float16ToFloat((short) argument);
+                case 26 -> (double) Float.intBitsToFloat((int) argument);
+                default -> Double.longBitsToDouble(argument);
+            };
+        }
+
+        if (argument < 0) {
+            BigInteger value = new BigInteger(Long.toUnsignedString(argument));
+            return major == MAJOR_NEGATIVE ? value.not() : value;
+        }
+
+        return major == MAJOR_NEGATIVE ? -1 - argument : argument;
+    }
+
+    private BigInteger readBigInteger(int tag) {
+        if (major != MAJOR_BYTES) {
+            throw malformed("Bignum content must be a byte string");
+        }
+
+        BigInteger value = new BigInteger(1, readByteString());
+        return tag == TAG_NEGATIVE_BIGNUM ? value.not() : value;
+    }
+
+    private BigDecimal readDecimalFraction() {
+        if (major != MAJOR_ARRAY || argument != 2) {
+            throw malformed("Decimal fraction content must be a two element array");
+        }
+
+        int head = readByte();
+        major = head >>> 5;
+        info = head & 0x1F;
+        argument = readArgument(info);
+        long exponent = readScalarNumber().longValue();
+
+        head = readByte();
+        major = head >>> 5;
+        info = head & 0x1F;
+        argument = readArgument(info);
+
+        BigInteger mantissa;
+
+        if (major == MAJOR_TAG) {
+            int bignum = (int) argument;
+            head = readByte();
+            major = head >>> 5;
+            info = head & 0x1F;
+            argument = readArgument(info);
+            mantissa = readBigInteger(bignum);
+        } else {
+            Number number = readScalarNumber();
+            mantissa = number instanceof BigInteger integer ? integer : BigInteger.valueOf(number.longValue());
+        }
+
+        return new BigDecimal(mantissa, Math.toIntExact(-exponent));
+    }
+
+    private String readText(boolean key) {
+        if (reference != null) {
+            return reference;
+        }
+
+        if (major == MAJOR_UNSIGNED || major == MAJOR_NEGATIVE) {
+            return readScalarNumber().toString();
+        }
+
+        if (major == MAJOR_BYTES) {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(readByteString());
+        }
+
+        if (info == 31) {
+            StringBuilder builder = new StringBuilder();
+
+            while (peekByte() != BREAK) {
+                int head = readByte();
+
+                if (head >>> 5 != MAJOR_TEXT || (head & 0x1F) == 31) {
+                    throw malformed("Invalid text chunk");
+                }
+
+                int length = length(readArgument(head & 0x1F) + builder.length()) - builder.length();
+                ensure(length);
+                builder.append(new String(buf, pos, length, StandardCharsets.UTF_8));
+                pos += length;
+            }
+
+            readByte();
+            return builder.toString();
+        }
+
+        int length = length(argument);
+        ensure(length);
+
+        String string;
+
+        if (key && symbols != null && length <= JsonSymbolTable.MAX_LENGTH) {
+            int hash = 0;
+
+            for (int i = pos; i < pos + length; i++) {
+                hash = 31 * hash + buf[i];
+            }
+
+            string = symbols.lookup(buf, pos, length, hash);
+        } else {
+            string = new String(buf, pos, length, StandardCharsets.UTF_8);
+        }
+
+        pos += length;
+
+        if (references != null && length >= referenceThreshold(references.size())) {
+            references.add(string);
+        }
+
+        return string;
+    }
+
+    private byte[] readByteString() {
+        if (info == 31) {
+            throw malformed("Indefinite byte strings are not supported");
+        }
+
+        int length = length(argument);
+        ensure(length);
+        byte[] bytes = Arrays.copyOfRange(buf, pos, pos + length);
+        pos += length;
+        return bytes;
+    }
+
+    private int length(long argument) {
+        if (argument < 0 || argument > Integer.MAX_VALUE - 16) {
+            throw malformed("String too large");
+        }
+
+        if (argument > limits.maxStringLength()) {
+            throw JsonLimits.exceeded("String length", limits.maxStringLength(), getPosition());
+        }
+
+        return (int) argument;
+    }
+
+    public void skipValue() {
+        int count = 0;
+
+        do {
+            JsonToken token = peek();
+
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    count++;
+                }
+
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    count++;
+                }
+
+                case END_OBJECT -> {
+                    endObject();
+                    count--;
+                }
+
+                case END_ARRAY -> {
+                    endArray();
+                    count--;
+                }
+
+                case NAME -> nextName();
+                case STRING -> nextString();
+                case NUMBER -> nextNumber();
+                case BOOLEAN -> nextBoolean();
+                case NULL -> nextNull();
+                case END_DOCUMENT -> throw new JsonException("Unexpected end of Cbor document.");
+            }
+
+            if (count < 0) {
+                throw new JsonException(String.format("Expected a value but was %s at position %s", token, getPosition()));
+            }
+        } while (count > 0 || peeked == null && depth > 0 && maps[depth - 1] && (items[depth - 1] & 1) == 1);
+    }
+
+    public JsonElement nextJsonElement() {
+        ArrayDeque<JsonElement> stack = new ArrayDeque<>();
+        JsonElement root = null;
+
+        do {
+            JsonToken token = peek();
+            String name = null;
+
+            if (token == JsonToken.NAME) {
+                name = nextName();
+                token = peek();
+            }
+
+            JsonElement element = switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    yield new JsonObject();
+                }
+
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    yield new JsonArray();
+                }
+
+                case STRING -> new JsonPrimitive(nextString());
+
+                case NUMBER -> switch (nextNumber()) {
+                    case Long value -> JsonPrimitive.of((long) value);
+                    case Double value -> JsonPrimitive.of((double) value);
+                    case Number value -> new JsonPrimitive(value);
+                };
+
+                case BOOLEAN -> new JsonPrimitive(nextBoolean());
+
+                case NULL -> {
+                    nextNull();
+                    yield JsonNull.INSTANCE;
+                }
+
+                case END_OBJECT, END_ARRAY -> {
+                    if (stack.isEmpty()) {
+                        throw new JsonException(String.format("Expected a value but was %s at position %s", token, getPosition()));
+                    }
+
+                    if (token == JsonToken.END_OBJECT) {
+                        endObject();
+                    } else {
+                        endArray();
+                    }
+
+                    stack.pop();
+                    yield null;
+                }
+
+                default -> throw new JsonException("Unexpected end of Cbor document.");
+            };
+
+            if (element != null) {
+                switch (stack.peek()) {
+                    case null -> root = element;
+                    case JsonObject object -> object.add(name, element);
+                    case JsonArray array -> array.add(element);
+                    default -> throw new IllegalStateException();
+                }
+
+                if (element instanceof JsonObject || element instanceof JsonArray) {
+                    stack.push(element);
+                }
+            }
+        } while (!stack.isEmpty());
+
+        return root;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getPosition() {
+        return consumed + pos;
+    }
+
+    private void consume(JsonToken expected) {
+        JsonToken token = peek();
+
+        if (token != expected) {
+            throw unexpectedToken(expected, token);
+        }
+
+        peeked = null;
+
+        if (token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && depth > 0) {
+            items[depth - 1]++;
+
+            if (remaining[depth - 1] > 0) {
+                remaining[depth - 1]--;
+            }
+        }
+    }
+
+    private int readByte() {
+        if (pos == limit && !fill(1)) {
+            throw new JsonException(String.format("Unexpected end of Cbor input at position %s", getPosition()));
+        }
+
+        return buf[pos++] & 0xFF;
+    }
+
+    private int peekByte() {
+        if (pos == limit && !fill(1)) {
+            throw new JsonException(String.format("Unexpected end of Cbor input at position %s", getPosition()));
+        }
+
+        return buf[pos] & 0xFF;
+    }
+
+    private void ensure(int count) {
+        if (limit - pos < count && !fill(count)) {
+            throw new JsonException(String.format("Unexpected end of Cbor input at position %s", getPosition()));
+        }
+    }
+
+    private boolean fill(int count) {
+        if (stream == null) {
+            return false;
+        }
+
+        int available = limit - pos;
+        System.arraycopy(buf, pos, buf, 0, available);
+
+        consumed += pos;
+        pos = 0;
+        limit = available;
+
+        try {
+            while (limit < count) {
+                if (limit == buf.length) {
+                    buf = Arrays.copyOf(buf, (int) Math.min(buf.length * 2L, count));
+                }
+
+                int length = stream.read(buf, limit, buf.length - limit);
+
+                if (length < 0) {
+                    return false;
+                }
+
+                limit += length;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return true;
+    }
+
+    private JsonException unexpectedToken(JsonToken expected, JsonToken actual) {
+        return new JsonException(String.format("Expected %s but was %s at position %s", expected, actual, getPosition()));
+    }
+
+    private JsonException malformed(String message) {
+        return new JsonException(String.format("%s at position %s", message, getPosition()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
@@ -0,0 +1,492 @@
+package nl.radiantrealm.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.HashMap;
+
+public class JsonCborWriter implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 8192;
+
+    static final int MAJOR_UNSIGNED = 0;
+    static final int MAJOR_NEGATIVE = 1;
+    static final int MAJOR_BYTES = 2;
+    static final int MAJOR_TEXT = 3;
+    static final int MAJOR_ARRAY = 4;
+    static final int MAJOR_MAP = 5;
+    static final int MAJOR_TAG = 6;
+    static final int MAJOR_SIMPLE = 7;
+
+    static final int TAG_POSITIVE_BIGNUM = 2;
+    static final int TAG_NEGATIVE_BIGNUM = 3;
+    static final int TAG_DECIMAL_FRACTION = 4;
+    static final int TAG_STRING_REFERENCE = 25;
+    static final int TAG_STRING_NAMESPACE = 256;
+
+    static final int FALSE = 0xF4;
+    static final int TRUE = 0xF5;
+    static final int NULL = 0xF6;
+    static final int BREAK = 0xFF;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int ARRAY = 2;
+    private static final int OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int DEFINITE = 5;
+
+    private final OutputStream stream;
+
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int count;
+
+    private int[] scopes = new int[32];
+    private int depth;
+
+    private boolean stringReferences;
+    private HashMap<String, Integer> references;
+
+    private JsonElement[] containers = new JsonElement[16];
+    private int[] cursors = new int[16];
+
+    public JsonCborWriter(OutputStream out) {
+        this.stream = out;
+        scopes[depth++] = EMPTY_DOCUMENT;
+    }
+
+    public static byte[] encode(JsonElement element) {
+        return encode(element, false);
+    }
+
+    public static byte[] encode(JsonElement element, boolean stringReferences) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JsonCborWriter writer = new JsonCborWriter(output).setStringReferences(stringReferences);
+        writer.value(element);
+        writer.flushBuffer();
+        return output.toByteArray();
+    }
+
+    public JsonCborWriter setStringReferences(boolean stringReferences) {
+        if (scopes[0] != EMPTY_DOCUMENT) {
+            throw new IllegalStateException("String references must be enabled before the first value.");
+        }
+
+        this.stringReferences = stringReferences;
+        return this;
+    }
+
+    public JsonCborWriter beginObject() {
+        beforeValue();
+        push(OBJECT);
+        writeByte((MAJOR_MAP << 5) | 31);
+        return this;
+    }
+
+    public JsonCborWriter endObject() {
+        return close(OBJECT);
+    }
+
+    public JsonCborWriter beginArray() {
+        beforeValue();
+        push(ARRAY);
+        writeByte((MAJOR_ARRAY << 5) | 31);
+        return this;
+    }
+
+    public JsonCborWriter endArray() {
+        return close(ARRAY);
+    }
+
+    private JsonCborWriter close(int scope) {
+        if (scopes[depth - 1] != scope) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+
+        depth--;
+        writeByte(BREAK);
+        return this;
+    }
+
+    public JsonCborWriter name(String name) {
+        if (scopes[depth - 1] != OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+
+        scopes[depth - 1] = DANGLING_NAME;
+        writeText(name);
+        return this;
+    }
+
+    public JsonCborWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+
+        beforeValue();
+        writeText(value);
+        return this;
+    }
+
+    public JsonCborWriter value(boolean value) {
+        beforeValue();
+        writeByte(value ? TRUE : FALSE);
+        return this;
+    }
+
+    public JsonCborWriter value(Boolean value) {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    public JsonCborWriter value(long value) {
+        beforeValue();
+        writeLong(value);
+        return this;
+    }
+
+    public JsonCborWriter value(double value) {
+        if (!Double.isFinite(value)) {
+            throw new JsonException(String.format("Numeric value %s is not valid Json.", value));
+        }
+
+        beforeValue();
+        writeDouble(value);
+        return this;
+    }
+
+    public JsonCborWriter value(Number value) {
+        return switch (value) {
+            case null -> nullValue();
+            case Long number -> value(number.longValue());
+            case Integer number -> value(number.longValue());
+            case Short number -> value(number.longValue());
+            case Byte number -> value(number.longValue());
+            case Double number -> value(number.doubleValue());
+            case Float number -> value(number.doubleValue());
+
+            case BigInteger number -> {
+                beforeValue();
+                writeBigInteger(number);
+                yield this;
+            }
+
+            case BigDecimal number -> {
+                beforeValue();
+                writeHead(MAJOR_TAG, TAG_DECIMAL_FRACTION);
+                writeHead(MAJOR_ARRAY, 2);
+                writeLong(-(long) number.scale());
+                writeBigInteger(number.unscaledValue());
+                yield this;
+            }
+
+            default -> value(new BigDecimal(value.toString()));
+        };
+    }
+
+    public JsonCborWriter nullValue() {
+        beforeValue();
+        writeByte(NULL);
+        return this;
+    }
+
+    public JsonCborWriter value(JsonElement element) {
+        JsonElement current = element == null ? JsonNull.INSTANCE : element;
+        int top = 0;
+
+        beforeValue();
+        push(DEFINITE);
+
+        while (true) {
+            switch (current) {
+                case JsonObject object -> {
+                    writeHead(MAJOR_MAP, object.size());
+                    top = pushContainer(top, object);
+                }
+
+                case JsonArray array -> {
+                    writeHead(MAJOR_ARRAY, array.size());
+                    top = pushContainer(top, array);
+                }
+
+                case JsonLongPrimitive primitive -> writeLong(primitive.value);
+                case JsonDoublePrimitive primitive -> writeDouble(primitive.value);
+
+                case JsonPrimitive primitive -> {
+                    switch (primitive.getValue()) {
+                        case Boolean bool -> writeByte(bool ? TRUE : FALSE);
+                        case String string -> writeText(string);
+                        case Number number -> value(number);
+                        default -> throw new IllegalArgumentException("Unknown Json primitive type.");
+                    }
+                }
+
+                case JsonNull ignored -> writeByte(NULL);
+                default -> throw new IllegalStateException();
+            }
+
+            current = null;
+
+            while (current == null) {
+                if (top == 0) {
+                    depth--;
+                    return this;
+                }
+
+                int index = cursors[top - 1]++;
+
+                if (containers[top - 1] instanceof JsonObject object) {
+                    if (index == object.size()) {
+                        containers[--top] = null;
+                    } else {
+                        writeText(object.keyAt(index));
+                        current = object.valueAt(index);
+                    }
+                } else {
+                    JsonArray array = (JsonArray) containers[top - 1];
+
+                    if (index == array.size()) {
+                        containers[--top] = null;
+                    } else {
+                        current = array.get(index);
+                    }
+                }
+            }
+        }
+    }
+
+    private int pushContainer(int top, JsonElement container) {
+        if (top == containers.length) {
+            containers = Arrays.copyOf(containers, top * 2);
+            cursors = Arrays.copyOf(cursors, top * 2);
+        }
+
+        containers[top] = container;
+        cursors[top] = 0;
+        return top + 1;
+    }
+
+    private void beforeValue() {
+        switch (scopes[depth - 1]) {
+            case EMPTY_DOCUMENT -> {
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+
+                if (stringReferences) {
+                    references = new HashMap<>();
+                    writeHead(MAJOR_TAG, TAG_STRING_NAMESPACE);
+                }
+            }
+
+            case DANGLING_NAME -> scopes[depth - 1] = OBJECT;
+            case ARRAY, DEFINITE -> {
+            }
+
+            case NONEMPTY_DOCUMENT -> throw new IllegalStateException("Json must have only one top-level value.");
+            default -> throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+
+        scopes[depth++] = scope;
+    }
+
+    static int referenceThreshold(int index) {
+        if (index < 24) {
+            return 3;
+        } else if (index < 256) {
+            return 4;
+        } else if (index < 65536) {
+            return 5;
+        } else {
+            return 7;
+        }
+    }
+
+    private void writeText(String string) {
+        int length = utf8Length(string);
+
+        if (references != null && length >= referenceThreshold(references.size())) {
+            Integer index = references.get(string);
+
+            if (index != null) {
+                writeHead(MAJOR_TAG, TAG_STRING_REFERENCE);
+                writeHead(MAJOR_UNSIGNED, index);
+                return;
+            }
+
+            references.put(string, references.size());
+        }
+
+        writeHead(MAJOR_TEXT, length);
+
+        for (int i = 0, n = string.length(); i < n; i++) {
+            char c = string.charAt(i);
+
+            if (c < 0x80) {
+                writeByte(c);
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(string.charAt(i + 1))) {
+                int code = Character.toCodePoint(c, string.charAt(++i));
+                writeByte(0xF0 | (code >> 18));
+                writeByte(0x80 | ((code >> 12) & 0x3F));
+                writeByte(0x80 | ((code >> 6) & 0x3F));
+                writeByte(0x80 | (code & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeByte('?');
+            } else {
+                writeByte(0xE0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3F));
+                writeByte(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private static int utf8Length(String string) {
+        int length = string.length();
+
+        for (int i = 0, n = string.length(); i < n; i++) {
+            char c = string.charAt(i);
+
+            if (c >= 0x800) {
+                if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(string.charAt(i + 1))) {
+                    length += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    length += 2;
+                }
+            } else if (c >= 0x80) {
+                length++;
+            }
+        }
+
+        return length;
+    }
+
+    private void writeLong(long value) {
+        if (value >= 0) {
+            writeHead(MAJOR_UNSIGNED, value);
+        } else {
+            writeHead(MAJOR_NEGATIVE, -1 - value);
+        }
+    }
+
+    private void writeBigInteger(BigInteger value) {
+        if (value.bitLength() < 64) {
+            writeLong(value.longValue());
+            return;
+        }
+
+        boolean negative = value.signum() < 0;
+        byte[] bytes = (negative ? BigInteger.ONE.negate().subtract(value) : value).toByteArray();
+        int offset = bytes[0] == 0 ? 1 : 0;
+
+        writeHead(MAJOR_TAG, negative ? TAG_NEGATIVE_BIGNUM : TAG_POSITIVE_BIGNUM);
+        writeHead(MAJOR_BYTES, bytes.length - offset);
+
+        for (int i = offset; i < bytes.length; i++) {
+            writeByte(bytes[i]);
+        }
+    }
+
+    private void writeDouble(double value) {
+        float single = (float) value;
+
+        if (single == value) {
+            short half = Float.floatToFloat16(single);
+
+            if (Float.float16ToFloat(half) == single) {
+                writeByte((MAJOR_SIMPLE << 5) | 25);
+                writeByte(half >> 8);
+                writeByte(half);
+                return;
+            }
+
+            int bits = Float.floatToRawIntBits(single);
+            writeByte((MAJOR_SIMPLE << 5) | 26);
+
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                writeByte(bits >> shift);
+            }
+
+            return;
+        }
+
+        long bits = Double.doubleToRawLongBits(value);
+        writeByte((MAJOR_SIMPLE << 5) | 27);
+
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            writeByte((int) (bits >> shift));
+        }
+    }
+
+    private void writeHead(int major, long argument) {
+        int type = major << 5;
+
+        if (argument >= 0 && argument < 24) {
+            writeByte(type | (int) argument);
+        } else if (argument >= 0 && argument < 0x100) {
+            writeByte(type | 24);
+            writeByte((int) argument);
+        } else if (argument >= 0 && argument < 0x10000) {
+            writeByte(type | 25);
+            writeByte((int) (argument >> 8));
+            writeByte((int) argument);
+        } else if (argument >= 0 && argument < 0x100000000L) {
+            writeByte(type | 26);
+
+            for (int shift = 24; shift >= 0; shift -= 8) {
+                writeByte((int) (argument >> shift));
+            }
+        } else {
+            writeByte(type | 27);
+
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                writeByte((int) (argument >> shift));
+            }
+        }
+    }
+
+    private void writeByte(int b) {
+        if (count == buf.length) {
+            flushBuffer();
+        }
+
+        buf[count++] = (byte) b;
+    }
+
+    private void flushBuffer() {
+        if (count == 0) {
+            return;
+        }
+
+        try {
+            stream.write(buf, 0, count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        count = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        flushBuffer();
+        stream.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        stream.close();
+    }
+}
@@ -0,0 +1,11 @@
+package nl.radiantrealm.json;
+
+interface JsonCodec {
+    JsonElement encode(Object value);
+
+    Object decode(JsonElement element);
+
+    void write(JsonWriter writer, Object value);
+
+    Object read(JsonReader reader);
+}
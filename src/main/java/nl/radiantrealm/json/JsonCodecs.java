@@ -0,0 +1,671 @@
+package nl.radiantrealm.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+final class JsonCodecs {
+    private static final ClassValue<JsonCodec> CODECS = new ClassValue<>() {
+        @Override
+        protected JsonCodec computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    static final JsonCodec STRING = new Scalar(
+            value -> new JsonPrimitive((String) value),
+            JsonElement::getAsString,
+            (writer, value) -> writer.value((String) value),
+            JsonReader::nextString,
+            null
+    );
+
+    static final JsonCodec OBJECT = new JsonCodec() {
+        @Override
+        public JsonElement encode(Object value) {
+            return value == null ? JsonNull.INSTANCE : of(value.getClass()).encode(value);
+        }
+
+        @Override
+        public Object decode(JsonElement element) {
+            return switch (element) {
+                case null -> null;
+                case JsonNull ignored -> null;
+                case JsonPrimitive primitive -> primitive.getValue();
+                default -> element;
+            };
+        }
+
+        @Override
+        public void write(JsonWriter writer, Object value) {
+            if (value == null) {
+                writer.nullValue();
+            } else {
+                of(value.getClass()).write(writer, value);
+            }
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            return decode(reader.nextJsonElement());
+        }
+    };
+
+    private static final JsonCodec ELEMENT = new JsonCodec() {
+        @Override
+        public JsonElement encode(Object value) {
+            return value == null ? JsonNull.INSTANCE : (JsonElement) value;
+        }
+
+        @Override
+        public Object decode(JsonElement element) {
+            return element;
+        }
+
+        @Override
+        public void write(JsonWriter writer, Object value) {
+            writer.value((JsonElement) value);
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            return reader.nextJsonElement();
+        }
+    };
+
+    private JsonCodecs() {}
+
+    static JsonCodec of(Type type) {
+        return switch (type) {
+            case Class<?> raw -> CODECS.get(raw);
+
+            case ParameterizedType parameterized -> {
+                Class<?> raw = (Class<?>) parameterized.getRawType();
+                Type[] arguments = parameterized.getActualTypeArguments();
+
+                if (Collection.class.isAssignableFrom(raw)) {
+                    yield new CollectionCodec(raw, of(arguments[0]));
+                }
+
+                if (Map.class.isAssignableFrom(raw)) {
+                    requireStringKeys(arguments[0]);
+                    yield new MapCodec(raw, of(arguments[1]));
+                }
+
+                yield CODECS.get(raw);
+            }
+
+            case GenericArrayType array -> new ArrayCodec(rawType(array.getGenericComponentType()), of(array.getGenericComponentType()));
+            case WildcardType wildcard -> of(wildcard.getUpperBounds()[0]);
+            case TypeVariable<?> variable -> of(variable.getBounds()[0]);
+            default -> throw new JsonException(String.format("Unsupported type '%s'.", type.getTypeName()));
+        };
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return null;
+        }
+
+        return Array.get(Array.newInstance(type, 1), 0);
+    }
+
+    private static JsonCodec create(Class<?> type) {
+        if (type == String.class) {
+            return STRING;
+        }
+
+        if (type == Object.class) {
+            return OBJECT;
+        }
+
+        if (type.isPrimitive() || Number.class.isAssignableFrom(type) || type == Boolean.class || type == Character.class) {
+            return scalar(type);
+        }
+
+        if (type == UUID.class) {
+            return new Scalar(
+                    value -> new JsonPrimitive(value.toString()),
+                    JsonElement::getAsUUID,
+                    (writer, value) -> writer.value(value.toString()),
+                    reader -> UUID.fromString(reader.nextString()),
+                    null
+            );
+        }
+
+        if (type.isEnum()) {
+            return enumeration(type.asSubclass(Enum.class));
+        }
+
+        if (JsonElement.class.isAssignableFrom(type)) {
+            return ELEMENT;
+        }
+
+        if (type.isArray()) {
+            return new ArrayCodec(type.getComponentType(), of(type.getComponentType()));
+        }
+
+        if (Collection.class.isAssignableFrom(type)) {
+            return new CollectionCodec(type, OBJECT);
+        }
+
+        if (Map.class.isAssignableFrom(type)) {
+            return new MapCodec(type, OBJECT);
+        }
+
+        return JsonBeanCodec.of(type);
+    }
+
+    private static JsonCodec scalar(Class<?> type) {
+        Object defaultValue = defaultValue(type);
+
+        if (type == boolean.class || type == Boolean.class) {
+            return new Scalar(
+                    value -> new JsonPrimitive((Boolean) value),
+                    JsonElement::getAsBoolean,
+                    (writer, value) -> writer.value((boolean) (Boolean) value),
+                    JsonReader::nextBoolean,
+                    defaultValue
+            );
+        }
+
+        if (type == long.class || type == Long.class) {
+            return new Scalar(
+                    value -> JsonPrimitive.of((long) (Long) value),
+                    JsonCodecs::exactLong,
+                    (writer, value) -> writer.value((long) (Long) value),
+                    JsonReader::nextLong,
+                    defaultValue
+            );
+        }
+
+        if (type == int.class || type == Integer.class) {
+            return new Scalar(
+                    value -> JsonPrimitive.of((long) (Integer) value),
+                    element -> (int) range(exactLong(element), Integer.MIN_VALUE, Integer.MAX_VALUE, "int"),
+                    (writer, value) -> writer.value((long) (Integer) value),
+                    JsonReader::nextInt,
+                    defaultValue
+            );
+        }
+
+        if (type == short.class || type == Short.class) {
+            return new Scalar(
+                    value -> JsonPrimitive.of((long) (Short) value),
+                    element -> (short) range(exactLong(element), Short.MIN_VALUE, Short.MAX_VALUE, "short"),
+                    (writer, value) -> writer.value((long) (Short) value),
+                    reader -> (short) range(reader.nextLong(), Short.MIN_VALUE, Short.MAX_VALUE, "short"),
+                    defaultValue
+            );
+        }
+
+        if (type == byte.class || type == Byte.class) {
+            return new Scalar(
+                    value -> JsonPrimitive.of((long) (Byte) value),
+                    element -> (byte) range(exactLong(element), Byte.MIN_VALUE, Byte.MAX_VALUE, "byte"),
+                    (writer, value) -> writer.value((long) (Byte) value),
+                    reader -> (byte) range(reader.nextLong(), Byte.MIN_VALUE, Byte.MAX_VALUE, "byte"),
+                    defaultValue
+            );
+        }
+
+        if (type == double.class || type == Double.class) {
+            return new Scalar(
+                    value -> JsonPrimitive.of((double) (Double) value),
+                    JsonElement::getAsDouble,
+                    (writer, value) -> writer.value((double) (Double) value),
+                    JsonReader::nextDouble,
+                    defaultValue
+            );
+        }
+
+        if (type == float.class || type == Float.class) {
+            return new Scalar(
+                    value -> JsonPrimitive.of((double) (Float) value),
+                    element -> (float) element.getAsDouble(),
+                    (writer, value) -> writer.value((double) (Float) value),
+                    reader -> (float) reader.nextDouble(),
+                    defaultValue
+            );
+        }
+
+        if (type == char.class || type == Character.class) {
+            return new Scalar(
+                    value -> new JsonPrimitive(value.toString()),
+                    element -> character(element.getAsString()),
+                    (writer, value) -> writer.value(value.toString()),
+                    reader -> character(reader.nextString()),
+                    defaultValue
+            );
+        }
+
+        if (type == BigDecimal.class) {
+            return new Scalar(
+                    value -> new JsonPrimitive((Number) value),
+                    JsonElement::getAsBigDecimal,
+                    (writer, value) -> writer.value((Number) value),
+                    reader -> new BigDecimal(reader.nextString()),
+                    null
+            );
+        }
+
+        if (type == BigInteger.class) {
+            return new Scalar(
+                    value -> new JsonPrimitive((Number) value),
+                    element -> element.getAsBigDecimal().toBigIntegerExact(),
+                    (writer, value) -> writer.value((Number) value),
+                    reader -> new BigDecimal(reader.nextString()).toBigIntegerExact(),
+                    null
+            );
+        }
+
+        return new Scalar(
+                value -> new JsonPrimitive((Number) value),
+                JsonElement::getAsNumber,
+                (writer, value) -> writer.value((Number) value),
+                JsonReader::nextNumber,
+                null
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static JsonCodec enumeration(Class<? extends Enum> type) {
+        return new Scalar(
+                value -> new JsonPrimitive(((Enum<?>) value).name()),
+                element -> Enum.valueOf(type, element.getAsString()),
+                (writer, value) -> writer.value(((Enum<?>) value).name()),
+                reader -> Enum.valueOf(type, reader.nextString()),
+                null
+        );
+    }
+
+    private static long exactLong(JsonElement element) {
+        if (element instanceof JsonLongPrimitive primitive) {
+            return primitive.value;
+        }
+
+        try {
+            return element.getAsBigDecimal().longValueExact();
+        } catch (ArithmeticException | NumberFormatException e) {
+            throw new JsonException(String.format("Invalid number '%s'", element));
+        }
+    }
+
+    private static long range(long value, long min, long max, String type) {
+        if (value < min || value > max) {
+            throw new JsonException(String.format("Number %s out of %s range", value, type));
+        }
+
+        return value;
+    }
+
+    private static char character(String string) {
+        if (string.length() != 1) {
+            throw new JsonException(String.format("Expected a single character but was '%s'.", string));
+        }
+
+        return string.charAt(0);
+    }
+
+    private static Class<?> rawType(Type type) {
+        return switch (type) {
+            case Class<?> raw -> raw;
+            case ParameterizedType parameterized -> (Class<?>) parameterized.getRawType();
+            case GenericArrayType array -> rawType(array.getGenericComponentType()).arrayType();
+            case WildcardType wildcard -> rawType(wildcard.getUpperBounds()[0]);
+            case TypeVariable<?> variable -> rawType(variable.getBounds()[0]);
+            default -> Object.class;
+        };
+    }
+
+    private static void requireStringKeys(Type type) {
+        if (rawType(type) != String.class && rawType(type) != Object.class) {
+            throw new JsonException(String.format("Unsupported map key type '%s'.", type.getTypeName()));
+        }
+    }
+
+    private static MethodHandle factory(Class<?> type, Class<?> fallback) {
+        Class<?> target = type.isInterface() || Modifier.isAbstract(type.getModifiers()) ? fallback : type;
+
+        if (!type.isAssignableFrom(target)) {
+            throw new JsonException(String.format("Unsupported container type '%s'.", type.getName()));
+        }
+
+        try {
+            return JsonBeanCodec.lookup(target)
+                    .findConstructor(target, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new JsonException(String.format("Container type '%s' has no accessible no-arg constructor.", type.getName()));
+        }
+    }
+
+    private record Scalar(
+            Function<Object, JsonElement> encoder,
+            Function<JsonElement, Object> decoder,
+            BiConsumer<JsonWriter, Object> writer,
+            Function<JsonReader, Object> reader,
+            Object defaultValue
+    ) implements JsonCodec {
+
+        @Override
+        public JsonElement encode(Object value) {
+            return value == null ? JsonNull.INSTANCE : encoder.apply(value);
+        }
+
+        @Override
+        public Object decode(JsonElement element) {
+            return element == null || element instanceof JsonNull ? defaultValue : decoder.apply(element);
+        }
+
+        @Override
+        public void write(JsonWriter writer, Object value) {
+            if (value == null) {
+                writer.nullValue();
+            } else {
+                this.writer.accept(writer, value);
+            }
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return defaultValue;
+            }
+
+            return this.reader.apply(reader);
+        }
+    }
+
+    private static final class CollectionCodec implements JsonCodec {
+        private final MethodHandle factory;
+        private final JsonCodec element;
+
+        CollectionCodec(Class<?> type, JsonCodec element) {
+            this.factory = factory(type, Set.class.isAssignableFrom(type) ? (SortedSet.class.isAssignableFrom(type) ? TreeSet.class : LinkedHashSet.class) : ArrayList.class);
+            this.element = element;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Collection<Object> create() {
+            try {
+                return (Collection<Object>) (Object) factory.invokeExact();
+            } catch (Throwable e) {
+                throw JsonBeanCodec.rethrow(e);
+            }
+        }
+
+        @Override
+        public JsonElement encode(Object value) {
+            if (value == null) {
+                return JsonNull.INSTANCE;
+            }
+
+            Collection<?> collection = (Collection<?>) value;
+            JsonArray array = new JsonArray(collection.size());
+
+            for (Object item : collection) {
+                array.add(element.encode(item));
+            }
+
+            return array;
+        }
+
+        @Override
+        public Object decode(JsonElement value) {
+            if (value == null || value instanceof JsonNull) {
+                return null;
+            }
+
+            Collection<Object> collection = create();
+
+            for (JsonElement item : value.getAsJsonArray()) {
+                collection.add(element.decode(item));
+            }
+
+            return collection;
+        }
+
+        @Override
+        public void write(JsonWriter writer, Object value) {
+            if (value == null) {
+                writer.nullValue();
+                return;
+            }
+
+            writer.beginArray();
+
+            for (Object item : (Collection<?>) value) {
+                element.write(writer, item);
+            }
+
+            writer.endArray();
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+
+            Collection<Object> collection = create();
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                collection.add(element.read(reader));
+            }
+
+            reader.endArray();
+            return collection;
+        }
+    }
+
+    private static final class MapCodec implements JsonCodec {
+        private final MethodHandle factory;
+        private final JsonCodec value;
+
+        MapCodec(Class<?> type, JsonCodec value) {
+            this.factory = factory(type, SortedMap.class.isAssignableFrom(type) ? TreeMap.class : LinkedHashMap.class);
+            this.value = value;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Map<String, Object> create() {
+            try {
+                return (Map<String, Object>) (Object) factory.invokeExact();
+            } catch (Throwable e) {
+                throw JsonBeanCodec.rethrow(e);
+            }
+        }
+
+        @Override
+        public JsonElement encode(Object map) {
+            if (map == null) {
+                return JsonNull.INSTANCE;
+            }
+
+            JsonObject object = new JsonObject();
+
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) map).entrySet()) {
+                object.add(String.valueOf(entry.getKey()), value.encode(entry.getValue()));
+            }
+
+            return object;
+        }
+
+        @Override
+        public Object decode(JsonElement element) {
+            if (element == null || element instanceof JsonNull) {
+                return null;
+            }
+
+            Map<String, Object> map = create();
+
+            for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet()) {
+                map.put(entry.getKey(), value.decode(entry.getValue()));
+            }
+
+            return map;
+        }
+
+        @Override
+        public void write(JsonWriter writer, Object map) {
+            if (map == null) {
+                writer.nullValue();
+                return;
+            }
+
+            writer.beginObject();
+
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) map).entrySet()) {
+                writer.name(String.valueOf(entry.getKey()));
+                value.write(writer, entry.getValue());
+            }
+
+            writer.endObject();
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+
+            Map<String, Object> map = create();
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                map.put(name, value.read(reader));
+            }
+
+            reader.endObject();
+            return map;
+        }
+    }
+
+    private static final class ArrayCodec implements JsonCodec {
+        private final Class<?> component;
+        private final JsonCodec element;
+
+        ArrayCodec(Class<?> component, JsonCodec element) {
+            this.component = component;
+            this.element = element;
+        }
+
+        @Override
+        public JsonElement encode(Object value) {
+            if (value == null) {
+                return JsonNull.INSTANCE;
+            }
+
+            if (value instanceof long[] longs) {
+                JsonArray array = new JsonArray();
+
+                for (long number : longs) {
+                    array.addLong(number);
+                }
+
+                return array;
+            }
+
+            if (value instanceof double[] doubles) {
+                JsonArray array = new JsonArray();
+
+                for (double number : doubles) {
+                    array.addDouble(number);
+                }
+
+                return array;
+            }
+
+            int length = Array.getLength(value);
+            JsonArray array = new JsonArray(length);
+
+            for (int i = 0; i < length; i++) {
+                array.add(element.encode(Array.get(value, i)));
+            }
+
+            return array;
+        }
+
+        @Override
+        public Object decode(JsonElement value) {
+            if (value == null || value instanceof JsonNull) {
+                return null;
+            }
+
+            JsonArray array = value.getAsJsonArray();
+
+            if (component == long.class && array.longs != null) {
+                return array.toLongArray();
+            }
+
+            if (component == double.class && array.doubles != null) {
+                return array.toDoubleArray();
+            }
+
+            Object result = Array.newInstance(component, array.size());
+
+            for (int i = 0; i < array.size(); i++) {
+                Array.set(result, i, element.decode(array.get(i)));
+            }
+
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter writer, Object value) {
+            if (value == null) {
+                writer.nullValue();
+                return;
+            }
+
+            writer.beginArray();
+
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                element.write(writer, Array.get(value, i));
+            }
+
+            writer.endArray();
+        }
+
+        @Override
+        public Object read(JsonReader reader) {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
+
+            ArrayList<Object> items = new ArrayList<>();
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                items.add(element.read(reader));
+            }
+
+            reader.endArray();
+            Object result = Array.newInstance(component, items.size());
+
+            for (int i = 0; i < items.size(); i++) {
+                Array.set(result, i, items.get(i));
+            }
+
+            return result;
+        }
+    }
+}
@@ -1,14 +1,23 @@
 package nl.radiantrealm.json;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 
 public interface JsonConvertible {
     JsonObject toJson();
 
     static <T> T fromJson(Class<T> type, JsonObject object) throws Exception {
+        MethodHandle constructor = JsonMapper.convertibleConstructor(type);
+
+        if (constructor == null) {
+            type.getConstructor(JsonObject.class);
+            throw new IllegalAccessException(String.format("Constructor of '%s' is not accessible.", type.getSimpleName()));
+        }
+
         try {
-            return type.getConstructor(JsonObject.class).newInstance(object);
-        } catch (InstantiationException | IllegalArgumentException | InvocationTargetException e) {
+            return type.cast((Object) constructor.invokeExact(object));
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new Exception(String.format("Failed to instance class for '%s'.", type.getSimpleName()), e);
         }
     }
@@ -1,67 +1,286 @@
 package nl.radiantrealm.json;
 
 import java.math.BigDecimal;
-import java.util.HashSet;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class JsonElement {
+    private static final AtomicLong MUTATIONS = new AtomicLong(1);
 
     public abstract JsonElement deepCopy();
 
-    @Override
-    public String toString() {
-        return toString(new StringBuilder(), false);
+    public JsonElement freeze() {
+        return this;
     }
 
-    public String toString(boolean prettyPrinting) {
-        return toString(new StringBuilder(), prettyPrinting);
+    public boolean isFrozen() {
+        return true;
     }
 
-    protected String toString(StringBuilder builder, boolean prettyPrint) {
-        return switch (this) {
-            case JsonArray array -> {
-                builder.append(prettyPrint ? "[\n" : '[');
-                Set<String> strings = new HashSet<>(array.size());
+    boolean markFrozen() {
+        return false;
+    }
 
-                for (JsonElement element : array) {
-                    strings.add(String.format(element.toString(new StringBuilder(), prettyPrint)));
-                }
+    int cachedHash() {
+        return 0;
+    }
+
+    void cacheHash(int hash) {
+    }
 
-                builder.append(String.join(prettyPrint ? ",\n" : ",", strings));
-                yield builder.append(prettyPrint ? "\n]" : ']').toString();
+    static long hashStamp() {
+        return MUTATIONS.get();
+    }
+
+    static void invalidateHashes(long stamp) {
+        MUTATIONS.compareAndSet(stamp, stamp + 1);
+    }
+
+    static void freezeTree(JsonElement root) {
+        ArrayDeque<JsonElement> stack = new ArrayDeque<>();
+
+        if (root.markFrozen()) {
+            stack.push(root);
+        }
+
+        while (!stack.isEmpty()) {
+            Iterable<JsonElement> children = switch (stack.pop()) {
+                case JsonObject object -> object.values();
+                case JsonArray array -> array;
+                default -> throw new IllegalStateException();
+            };
+
+            for (JsonElement child : children) {
+                if (child.markFrozen()) {
+                    stack.push(child);
+                }
             }
+        }
+    }
+
+    static JsonElement copyTree(JsonElement root) {
+        if (root.isFrozen()) {
+            return root;
+        }
+
+        ArrayDeque<JsonElement> sources = new ArrayDeque<>();
+        ArrayDeque<JsonElement> targets = new ArrayDeque<>();
+        JsonElement copy = emptyCopy(root);
+
+        sources.push(root);
+        targets.push(copy);
 
-            case JsonObject object -> {
-                builder.append(prettyPrint ? "{\n" : '{');
-                Set<String> strings = new HashSet<>(object.size());
+        while (!sources.isEmpty()) {
+            JsonElement source = sources.pop();
+            JsonElement target = targets.pop();
+
+            if (source instanceof JsonObject object) {
+                JsonObject result = (JsonObject) target;
 
                 for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
-                    strings.add(String.format(
-                            "\"%s\"%s%s",
-                            entry.getKey(),
-                            prettyPrint ? ": " : ':',
-                            entry.getValue().toString(new StringBuilder(), prettyPrint))
-                    );
+                    JsonElement child = entry.getValue();
+
+                    if (!child.isFrozen()) {
+                        JsonElement childCopy = emptyCopy(child);
+                        sources.push(child);
+                        targets.push(childCopy);
+                        child = childCopy;
+                    }
+
+                    result.add(entry.getKey(), child);
                 }
+            } else if (!((JsonArray) target).copyNumbers((JsonArray) source, 0)) {
+                JsonArray result = (JsonArray) target;
+
+                for (JsonElement child : (JsonArray) source) {
+                    if (!child.isFrozen()) {
+                        JsonElement childCopy = emptyCopy(child);
+                        sources.push(child);
+                        targets.push(childCopy);
+                        child = childCopy;
+                    }
 
-                builder.append(String.join(prettyPrint ? ",\n" : ",", strings));
-                yield builder.append('}').toString();
+                    result.add(child);
+                }
             }
+        }
 
-            case JsonPrimitive primitive -> switch (primitive.object) {
-                case Boolean bool -> builder.append(bool).toString();
-                case Number number -> builder.append(number).toString();
-                case String string -> builder.append(String.format("\"%s\"", string)).toString();
-                default -> throw new IllegalArgumentException("Unknown Json primitive type.");
-            };
+        return copy;
+    }
+
+    static boolean equivalent(JsonElement left, JsonElement right) {
+        ArrayDeque<JsonElement> stack = new ArrayDeque<>();
+        stack.push(left);
+        stack.push(right);
+
+        while (!stack.isEmpty()) {
+            JsonElement b = stack.pop();
+            JsonElement a = stack.pop();
+
+            if (a == b) {
+                continue;
+            }
+
+            switch (a) {
+                case JsonObject object -> {
+                    if (!(b instanceof JsonObject other) || object.size() != other.size() || differentHashes(object, other)) {
+                        return false;
+                    }
+
+                    for (int i = 0; i < object.size(); i++) {
+                        JsonElement value = other.get(object.keyAt(i));
 
-            case JsonNull jsonNull -> builder.append(jsonNull).toString();
+                        if (value == null) {
+                            return false;
+                        }
+
+                        stack.push(object.valueAt(i));
+                        stack.push(value);
+                    }
+                }
+
+                case JsonArray array -> {
+                    if (!(b instanceof JsonArray other) || array.size() != other.size() || differentHashes(array, other)) {
+                        return false;
+                    }
+
+                    for (int i = 0; i < array.size(); i++) {
+                        stack.push(array.get(i));
+                        stack.push(other.get(i));
+                    }
+                }
+
+                case JsonPrimitive primitive -> {
+                    if (!(b instanceof JsonPrimitive other) || !JsonPrimitive.equivalent(primitive, other)) {
+                        return false;
+                    }
+                }
+
+                default -> {
+                    if (!(b instanceof JsonNull)) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean differentHashes(JsonElement a, JsonElement b) {
+        return a.cachedHash() != 0 && b.cachedHash() != 0 && a.cachedHash() != b.cachedHash();
+    }
+
+    static int hashTree(JsonElement root) {
+        JsonElement[] nodes = new JsonElement[16];
+        int[] cursors = new int[16];
+        int[] hashes = new int[16];
+        int top = 1;
+
+        nodes[0] = root;
+        hashes[0] = root instanceof JsonArray ? 1 : 0;
+
+        while (true) {
+            JsonElement node = nodes[top - 1];
+            int index = cursors[top - 1];
+            JsonElement child;
+
+            if (node instanceof JsonObject object) {
+                child = index < object.size() ? object.valueAt(index) : null;
+            } else {
+                JsonArray array = (JsonArray) node;
+                child = index < array.size() ? array.get(index) : null;
+            }
+
+            if (child == null) {
+                int hash = hashes[top - 1];
+                node.cacheHash(hash);
+                nodes[--top] = null;
+
+                if (top == 0) {
+                    return hash;
+                }
+
+                hashes[top - 1] = combine(nodes[top - 1], cursors[top - 1] - 1, hashes[top - 1], hash);
+                continue;
+            }
+
+            cursors[top - 1]++;
+
+            if ((child instanceof JsonObject || child instanceof JsonArray) && child.cachedHash() == 0) {
+                if (top == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, top * 2);
+                    cursors = Arrays.copyOf(cursors, top * 2);
+                    hashes = Arrays.copyOf(hashes, top * 2);
+                }
+
+                nodes[top] = child;
+                cursors[top] = 0;
+                hashes[top++] = child instanceof JsonArray ? 1 : 0;
+            } else {
+                hashes[top - 1] = combine(node, index, hashes[top - 1], child.hashCode());
+            }
+        }
+    }
+
+    private static int combine(JsonElement container, int index, int hash, int child) {
+        if (container instanceof JsonObject object) {
+            return hash + (object.keyAt(index).hashCode() ^ child);
+        }
+
+        return 31 * hash + child;
+    }
+
+    private static JsonElement emptyCopy(JsonElement element) {
+        return switch (element) {
+            case JsonObject object -> new JsonObject(object.size());
+            case JsonArray array -> new JsonArray(array.size());
             default -> throw new IllegalStateException();
         };
     }
 
+    @Override
+    public String toString() {
+        return toString(new StringBuilder(), false);
+    }
+
+    public String toString(boolean prettyPrinting) {
+        return toString(new StringBuilder(), prettyPrinting);
+    }
+
+    public String toCanonicalString() {
+        StringBuilder builder = new StringBuilder();
+        new JsonWriter(builder).setCanonical(true).value(this);
+        return builder.toString();
+    }
+
+    protected String toString(StringBuilder builder, boolean prettyPrint) {
+        JsonWriter writer = new JsonWriter(builder).setPrettyPrinting(prettyPrint);
+
+        if (!JsonInstrumentation.isSerializeActive()) {
+            writer.value(this);
+            return builder.toString();
+        }
+
+        JsonSerializeEvent event = new JsonSerializeEvent();
+        event.begin();
+        long start = System.nanoTime();
+        int from = builder.length();
+
+        try {
+            writer.value(this);
+        } catch (RuntimeException e) {
+            JsonInstrumentation.serialized(event, builder.length() - from, writer.peak, System.nanoTime() - start, e);
+            throw e;
+        }
+
+        JsonInstrumentation.serialized(event, builder.length() - from, writer.peak, System.nanoTime() - start, null);
+        return builder.toString();
+    }
+
     public JsonArray getAsJsonArray() {
         if (this instanceof JsonArray jsonArray) {
             return jsonArray;
@@ -118,6 +337,18 @@ public abstract class JsonElement {
         throw new UnsupportedOperationException(getClass().getSimpleName());
     }
 
+    public long getAsLong() {
+        throw new UnsupportedOperationException(getClass().getSimpleName());
+    }
+
+    public int getAsInt() {
+        throw new UnsupportedOperationException(getClass().getSimpleName());
+    }
+
+    public double getAsDouble() {
+        throw new UnsupportedOperationException(getClass().getSimpleName());
+    }
+
     public String getAsString() {
         throw new UnsupportedOperationException(getClass().getSimpleName());
     }
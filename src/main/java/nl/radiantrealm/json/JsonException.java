@@ -1,12 +1,34 @@
 package nl.radiantrealm.json;
 
 public class JsonException extends RuntimeException {
+    private final long position;
 
     public JsonException() {
         super();
+        this.position = -1;
     }
 
     public JsonException(String message) {
         super(message);
+        this.position = -1;
+    }
+
+    public JsonException(String message, Throwable cause) {
+        super(message, cause);
+        this.position = -1;
+    }
+
+    public JsonException(String message, long position) {
+        super(String.format("%s at position %s", message, position));
+        this.position = position;
+    }
+
+    public JsonException(String message, long position, Throwable cause) {
+        super(String.format("%s at position %s", message, position), cause);
+        this.position = position;
+    }
+
+    public long getPosition() {
+        return position;
     }
 }
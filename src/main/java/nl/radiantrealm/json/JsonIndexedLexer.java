@@ -0,0 +1,56 @@
+package nl.radiantrealm.json;
+
+import java.util.Arrays;
+
+class JsonIndexedLexer extends JsonByteLexer {
+    private final int[] positions;
+    private final int size;
+    private int cursor;
+
+    JsonIndexedLexer(JsonStructuralIndex index) {
+        super(index.input, index.offset, index.length);
+        this.positions = index.positions;
+        this.size = index.size;
+    }
+
+    @Override
+    char next() {
+        while (cursor < size) {
+            int position = positions[cursor++];
+
+            if (position < pos) {
+                continue;
+            }
+
+            if (position > pos && !isWhitespace(buf[pos] & 0xFF)) {
+                throw unexpected(read());
+            }
+
+            pos = position + 1;
+            return (char) (buf[position] & 0xFF);
+        }
+
+        if (pos < limit && !isWhitespace(buf[pos] & 0xFF)) {
+            throw unexpected(read());
+        }
+
+        pos = limit;
+        throw endOfInput();
+    }
+
+    @Override
+    void seek(long position) {
+        super.seek(position);
+        int index = Arrays.binarySearch(positions, 0, size, pos);
+        cursor = index < 0 ? -index - 1 : index;
+    }
+
+    @Override
+    boolean atEnd() {
+        while (cursor < size && positions[cursor] < pos) {
+            cursor++;
+        }
+
+        return cursor == size && super.atEnd();
+    }
+}
@@ -0,0 +1,67 @@
+package nl.radiantrealm.json;
+
+import jdk.jfr.EventType;
+
+public final class JsonInstrumentation {
+    private static final EventType PARSE = EventType.getEventType(JsonParseEvent.class);
+    private static final EventType SERIALIZE = EventType.getEventType(JsonSerializeEvent.class);
+
+    private static volatile JsonListener listener;
+
+    private JsonInstrumentation() {
+    }
+
+    public static void setListener(JsonListener listener) {
+        JsonInstrumentation.listener = listener;
+    }
+
+    public static JsonListener getListener() {
+        return listener;
+    }
+
+    static boolean isParseActive() {
+        return listener != null || PARSE.isEnabled();
+    }
+
+    static boolean isSerializeActive() {
+        return listener != null || SERIALIZE.isEnabled();
+    }
+
+    static void parsed(JsonParseEvent event, long length, int depth, long nanos, RuntimeException error) {
+        if (event.shouldCommit()) {
+            event.length = length;
+            event.depth = depth;
+            event.error = error == null ? null : error.getMessage();
+            event.commit();
+        }
+
+        JsonListener current = listener;
+
+        if (current != null) {
+            if (error == null) {
+                current.onParse(length, depth, nanos);
+            } else {
+                current.onError(error);
+            }
+        }
+    }
+
+    static void serialized(JsonSerializeEvent event, long length, int depth, long nanos, RuntimeException error) {
+        if (event.shouldCommit()) {
+            event.length = length;
+            event.depth = depth;
+            event.error = error == null ? null : error.getMessage();
+            event.commit();
+        }
+
+        JsonListener current = listener;
+
+        if (current != null) {
+            if (error == null) {
+                current.onSerialize(length, depth, nanos);
+            } else {
+                current.onError(error);
+            }
+        }
+    }
+}
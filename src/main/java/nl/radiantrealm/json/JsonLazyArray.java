@@ -0,0 +1,184 @@
+package nl.radiantrealm.json;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+class JsonLazyArray extends JsonArray {
+    private JsonLexer lexer;
+    private int[] offsets;
+    private JsonElement[] values;
+    private int size;
+
+    private JsonLazyArray(JsonLexer lexer, int[] offsets, int size) {
+        this.lexer = lexer;
+        this.offsets = offsets;
+        this.values = new JsonElement[size];
+        this.size = size;
+    }
+
+    static JsonLazyArray scan(JsonLexer lexer) {
+        int[] offsets = new int[8];
+        int size = 0;
+
+        char c = lexer.next();
+
+        if (c != ']') {
+            while (true) {
+                if (size == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, size * 2);
+                }
+
+                offsets[size++] = (int) lexer.position() - 1;
+                lexer.skipValue(c);
+
+                c = lexer.next();
+
+                if (c == ']') {
+                    break;
+                }
+
+                if (c != ',') {
+                    throw lexer.unexpected(c);
+                }
+
+                c = lexer.next();
+            }
+        }
+
+        return new JsonLazyArray(lexer, offsets, size);
+    }
+
+    private JsonElement value(int index) {
+        JsonElement element = values[index];
+
+        if (element == null) {
+            element = values[index] = JsonLazyObject.materialize(lexer, offsets[index]);
+        }
+
+        return element;
+    }
+
+    private void inflate() {
+        if (offsets == null) {
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            super.add(value(i));
+        }
+
+        lexer = null;
+        offsets = null;
+        values = null;
+    }
+
+    @Override
+    public JsonElement deepCopy() {
+        inflate();
+        return super.deepCopy();
+    }
+
+    @Override
+    boolean markFrozen() {
+        inflate();
+        return super.markFrozen();
+    }
+
+    @Override
+    public void add(JsonElement element) {
+        inflate();
+        super.add(element);
+    }
+
+    @Override
+    public void addAll(JsonArray array) {
+        inflate();
+        super.addAll(array);
+    }
+
+    @Override
+    public void add(int index, JsonElement element) {
+        inflate();
+        super.add(index, element);
+    }
+
+    @Override
+    public JsonElement set(int index, JsonElement element) {
+        inflate();
+        return super.set(index, element);
+    }
+
+    @Override
+    public JsonElement remove(int index) {
+        inflate();
+        return super.remove(index);
+    }
+
+    @Override
+    public JsonElement get(int index) {
+        if (offsets == null) {
+            return super.get(index);
+        }
+
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        return value(index);
+    }
+
+    @Override
+    public void remove(JsonElement element) {
+        inflate();
+        super.remove(element);
+    }
+
+    @Override
+    public boolean contains(JsonElement element) {
+        inflate();
+        return super.contains(element);
+    }
+
+    @Override
+    public int size() {
+        return offsets == null ? super.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return offsets == null ? super.isEmpty() : size == 0;
+    }
+
+    @Override
+    public Iterator<JsonElement> iterator() {
+        if (offsets == null) {
+            return super.iterator();
+        }
+
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < size();
+            }
+
+            @Override
+            public JsonElement next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                return get(index++);
+            }
+        };
+    }
+
+    @Override
+    public List<JsonElement> asList() {
+        inflate();
+        return super.asList();
+    }
+}
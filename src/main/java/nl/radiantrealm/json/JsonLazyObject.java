@@ -0,0 +1,249 @@
+package nl.radiantrealm.json;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+class JsonLazyObject extends JsonObject {
+    private JsonLexer lexer;
+    private String[] keys;
+    private int[] offsets;
+    private JsonElement[] values;
+    private int[] table;
+    private int size;
+
+    private JsonLazyObject(JsonLexer lexer) {
+        this.lexer = lexer;
+        this.keys = new String[8];
+        this.offsets = new int[8];
+        this.table = new int[16];
+    }
+
+    static JsonLazyObject scan(JsonLexer lexer) {
+        JsonLazyObject object = new JsonLazyObject(lexer);
+        char c = lexer.next();
+
+        if (c != '}') {
+            while (true) {
+                if (c != '"') {
+                    throw lexer.unexpected(c);
+                }
+
+                String key = lexer.readKey();
+                c = lexer.next();
+
+                if (c != ':') {
+                    throw lexer.unexpected(c);
+                }
+
+                c = lexer.next();
+
+                if (object.size >= lexer.limits.maxObjectMembers()) {
+                    throw JsonLimits.exceeded("Object member count", lexer.limits.maxObjectMembers(), lexer.position());
+                }
+
+                object.put(key, (int) lexer.position() - 1);
+                lexer.skipValue(c);
+
+                c = lexer.next();
+
+                if (c == '}') {
+                    break;
+                }
+
+                if (c != ',') {
+                    throw lexer.unexpected(c);
+                }
+
+                c = lexer.next();
+            }
+        }
+
+        object.values = new JsonElement[object.size];
+        return object;
+    }
+
+    private void put(String key, int offset) {
+        int slot = slot(key);
+
+        if (table[slot] != 0) {
+            offsets[table[slot] - 1] = offset;
+            return;
+        }
+
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            offsets = Arrays.copyOf(offsets, size * 2);
+        }
+
+        keys[size] = key;
+        offsets[size++] = offset;
+        table[slot] = size;
+
+        if (size * 2 > table.length) {
+            table = new int[table.length * 2];
+
+            for (int i = 0; i < size; i++) {
+                table[slot(keys[i])] = i + 1;
+            }
+        }
+    }
+
+    private int slot(String key) {
+        int mask = table.length - 1;
+        int hash = key.hashCode();
+        int slot = (hash ^ (hash >>> 16)) & mask;
+
+        while (table[slot] != 0 && !keys[table[slot] - 1].equals(key)) {
+            slot = (slot + 1) & mask;
+        }
+
+        return slot;
+    }
+
+    static JsonElement materialize(JsonLexer lexer, int offset) {
+        lexer.seek(offset);
+        char c = lexer.next();
+
+        return switch (c) {
+            case '{' -> scan(lexer);
+            case '[' -> JsonLazyArray.scan(lexer);
+            case '"' -> new JsonPrimitive(lexer.readString());
+
+            case 't', 'f' -> {
+                lexer.expect(c == 't' ? "rue" : "alse");
+                yield new JsonPrimitive(c == 't');
+            }
+
+            case 'n' -> {
+                lexer.expect("ull");
+                yield JsonNull.INSTANCE;
+            }
+
+            default -> {
+                lexer.readNumber(c);
+                yield lexer.numberPrimitive();
+            }
+        };
+    }
+
+    private int indexOf(String key) {
+        return table[slot(key)] - 1;
+    }
+
+    private JsonElement value(int index) {
+        JsonElement element = values[index];
+
+        if (element == null) {
+            element = values[index] = materialize(lexer, offsets[index]);
+        }
+
+        return element;
+    }
+
+    private void inflate() {
+        if (keys == null) {
+            return;
+        }
+
+        for (int i = 0; i < size; i++) {
+            super.add(keys[i], value(i));
+        }
+
+        lexer = null;
+        keys = null;
+        offsets = null;
+        values = null;
+        table = null;
+    }
+
+    @Override
+    public JsonElement deepCopy() {
+        inflate();
+        return super.deepCopy();
+    }
+
+    @Override
+    boolean markFrozen() {
+        inflate();
+        return super.markFrozen();
+    }
+
+    @Override
+    String keyAt(int index) {
+        return keys == null ? super.keyAt(index) : keys[index];
+    }
+
+    @Override
+    JsonElement valueAt(int index) {
+        return keys == null ? super.valueAt(index) : value(index);
+    }
+
+    @Override
+    public JsonElement get(String key) {
+        if (keys == null) {
+            return super.get(key);
+        }
+
+        int index = indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    @Override
+    public boolean has(String key) {
+        return keys == null ? super.has(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public void add(String key, JsonElement element) {
+        inflate();
+        super.add(key, element);
+    }
+
+    @Override
+    public JsonElement remove(String key) {
+        inflate();
+        return super.remove(key);
+    }
+
+    @Override
+    public int size() {
+        return keys == null ? super.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys == null ? super.isEmpty() : size == 0;
+    }
+
+    @Override
+    public void clear() {
+        inflate();
+        super.clear();
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonElement>> entrySet() {
+        inflate();
+        return super.entrySet();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        inflate();
+        return super.keySet();
+    }
+
+    @Override
+    public Collection<JsonElement> values() {
+        inflate();
+        return super.values();
+    }
+
+    @Override
+    public Map<String, JsonElement> asMap() {
+        inflate();
+        return super.asMap();
+    }
+}
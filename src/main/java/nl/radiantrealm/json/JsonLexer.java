@@ -0,0 +1,376 @@
+package nl.radiantrealm.json;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+abstract class JsonLexer {
+    static final int NUMBER_LONG = 0;
+    static final int NUMBER_DOUBLE = 1;
+    static final int NUMBER_BIG_INTEGER = 2;
+    static final int NUMBER_BIG_DECIMAL = 3;
+
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    JsonSymbolTable symbols = JsonSymbolTable.SHARED;
+    JsonLimits limits = JsonLimits.DEFAULT;
+
+    final StringBuilder numberText = new StringBuilder();
+    int numberType;
+    long longValue;
+    double doubleValue;
+
+    abstract char read();
+
+    abstract int peek();
+
+    abstract long position();
+
+    abstract String readString();
+
+    abstract void skipString();
+
+    String readKey() {
+        return readString();
+    }
+
+    char next() {
+        while (true) {
+            char c = read();
+
+            if (!isWhitespace(c)) {
+                return c;
+            }
+        }
+    }
+
+    int readCodePoint() {
+        int code = readHex();
+
+        if (Character.isHighSurrogate((char) code)) {
+            if (read() != '\\' || read() != 'u') {
+                throw unpairedSurrogate();
+            }
+
+            int low = readHex();
+
+            if (!Character.isLowSurrogate((char) low)) {
+                throw unpairedSurrogate();
+            }
+
+            return Character.toCodePoint((char) code, (char) low);
+        }
+
+        if (Character.isLowSurrogate((char) code)) {
+            throw unpairedSurrogate();
+        }
+
+        return code;
+    }
+
+    private int readHex() {
+        int code = 0;
+
+        for (int i = 0; i < 4; i++) {
+            char c = read();
+            int digit = hexDigit(c);
+
+            if (digit < 0) {
+                throw unexpected(c);
+            }
+
+            code = (code << 4) | digit;
+        }
+
+        return code;
+    }
+
+    void expect(String remainder) {
+        for (int i = 0; i < remainder.length(); i++) {
+            char c = read();
+
+            if (c != remainder.charAt(i)) {
+                throw unexpected(c);
+            }
+        }
+    }
+
+    void appendNumber(StringBuilder builder) {
+        int from = builder.length();
+
+        while (true) {
+            int c = peek();
+
+            switch (c) {
+                case '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '.', 'e', 'E', '+', '-' -> {
+                    if (builder.length() - from == limits.maxNumberLength()) {
+                        throw JsonLimits.exceeded("Number length", limits.maxNumberLength(), position() - limits.maxNumberLength());
+                    }
+
+                    builder.append(read());
+                }
+
+                default -> {
+                    return;
+                }
+            }
+        }
+    }
+
+    int readNumber(char first) {
+        StringBuilder text = numberText;
+        text.setLength(0);
+        text.append(first);
+
+        boolean negative = first == '-';
+        int c = negative ? digit(text) : first;
+
+        long mantissa = 0;
+        int digits = 0;
+        int exponent = 0;
+
+        if (c == '0') {
+            if (isDigit(peek())) {
+                throw unexpected(read());
+            }
+        } else {
+            mantissa = c - '0';
+            digits = 1;
+
+            while (isDigit(peek())) {
+                c = read();
+                append(text, (char) c);
+
+                if (exponent == 0 && mantissa <= (Long.MAX_VALUE - (c - '0')) / 10) {
+                    mantissa = mantissa * 10 + (c - '0');
+                } else {
+                    exponent++;
+                }
+
+                digits++;
+            }
+        }
+
+        boolean integral = true;
+
+        if (peek() == '.') {
+            append(text, read());
+            integral = false;
+            c = digit(text);
+
+            while (true) {
+                if (digits == 0 && c == '0') {
+                    exponent--;
+                } else if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    exponent--;
+                    digits++;
+                } else {
+                    digits++;
+                }
+
+                if (!isDigit(peek())) {
+                    break;
+                }
+
+                c = read();
+                append(text, (char) c);
+            }
+        }
+
+        c = peek();
+
+        if (c == 'e' || c == 'E') {
+            append(text, read());
+            integral = false;
+            c = peek();
+            boolean negativeExponent = c == '-';
+
+            if (c == '-' || c == '+') {
+                append(text, read());
+            }
+
+            int value = digit(text) - '0';
+
+            while (isDigit(peek())) {
+                c = read();
+                append(text, (char) c);
+
+                if (value < 100_000) {
+                    value = value * 10 + (c - '0');
+                }
+            }
+
+            exponent += negativeExponent ? -value : value;
+        }
+
+        if (integral) {
+            if (exponent == 0) {
+                longValue = negative ? -mantissa : mantissa;
+                return numberType = NUMBER_LONG;
+            }
+
+            return numberType = NUMBER_BIG_INTEGER;
+        }
+
+        if (digits <= 15 && exponent >= -22 && exponent <= 22) {
+            double value = (double) mantissa;
+            value = exponent < 0 ? value / POWERS_OF_TEN[-exponent] : value * POWERS_OF_TEN[exponent];
+            doubleValue = negative ? -value : value;
+            return numberType = NUMBER_DOUBLE;
+        }
+
+        if (digits <= 15 && exponent + digits > -300 && exponent + digits < 300) {
+            doubleValue = Double.parseDouble(text.toString());
+            return numberType = NUMBER_DOUBLE;
+        }
+
+        return numberType = NUMBER_BIG_DECIMAL;
+    }
+
+    Number numberValue() {
+        return switch (numberType) {
+            case NUMBER_LONG -> longValue;
+            case NUMBER_DOUBLE -> doubleValue;
+            case NUMBER_BIG_INTEGER -> new BigInteger(numberText.toString());
+            default -> new BigDecimal(numberText.toString());
+        };
+    }
+
+    JsonPrimitive numberPrimitive() {
+        return switch (numberType) {
+            case NUMBER_LONG -> JsonPrimitive.of(longValue);
+            case NUMBER_DOUBLE -> JsonPrimitive.of(doubleValue);
+            default -> new JsonPrimitive(numberValue());
+        };
+    }
+
+    private int digit(StringBuilder text) {
+        int c = peek();
+
+        if (!isDigit(c)) {
+            throw c < 0 ? endOfInput() : unexpected(read());
+        }
+
+        append(text, read());
+        return c;
+    }
+
+    private void append(StringBuilder text, char c) {
+        if (text.length() == limits.maxNumberLength()) {
+            throw JsonLimits.exceeded("Number length", limits.maxNumberLength(), position() - text.length() - 1);
+        }
+
+        text.append(c);
+    }
+
+    void skipNumber() {
+        while (true) {
+            switch (peek()) {
+                case '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '.', 'e', 'E', '+', '-' -> read();
+                default -> {
+                    return;
+                }
+            }
+        }
+    }
+
+    void skipValue(char c) {
+        int depth = 0;
+
+        while (true) {
+            switch (c) {
+                case '{', '[' -> depth++;
+
+                case '}', ']', ',', ':' -> {
+                    if (depth == 0) {
+                        throw unexpected(c);
+                    }
+
+                    if (c == '}' || c == ']') {
+                        depth--;
+                    }
+                }
+
+                case '"' -> skipString();
+                case 't' -> expect("rue");
+                case 'f' -> expect("alse");
+                case 'n' -> expect("ull");
+                case '-', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> skipNumber();
+                default -> throw unexpected(c);
+            }
+
+            if (depth == 0) {
+                return;
+            }
+
+            c = next();
+        }
+    }
+
+    void checkDocumentLength() {
+    }
+
+    void checkStringLength(long length) {
+        if (length > limits.maxStringLength()) {
+            throw JsonLimits.exceeded("String length", limits.maxStringLength(), position());
+        }
+    }
+
+    boolean isSeekable() {
+        return false;
+    }
+
+    void seek(long position) {
+        throw new UnsupportedOperationException("Input does not support random access.");
+    }
+
+    JsonLexer duplicate() {
+        throw new UnsupportedOperationException("Input does not support random access.");
+    }
+
+    final <T extends JsonLexer> T adopt(T copy) {
+        copy.symbols = symbols;
+        copy.limits = limits;
+        return copy;
+    }
+
+    boolean atEnd() {
+        while (isWhitespace(peek())) {
+            read();
+        }
+
+        return peek() < 0;
+    }
+
+    JsonException unexpected(char c) {
+        return new JsonException(String.format("Unexpected character '%s'", c), position() - 1);
+    }
+
+    JsonException unpairedSurrogate() {
+        return new JsonException("Unpaired surrogate escape", position());
+    }
+
+    JsonException endOfInput() {
+        return new JsonException("Unexpected end of Json input", position());
+    }
+
+    static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    static int hexDigit(char c) {
+        return switch (c) {
+            case '0', '1', '2', '3', '4', '5', '6', '7', '8', '9' -> c - '0';
+            case 'a', 'b', 'c', 'd', 'e', 'f' -> c - 'a' + 10;
+            case 'A', 'B', 'C', 'D', 'E', 'F' -> c - 'A' + 10;
+            default -> -1;
+        };
+    }
+}
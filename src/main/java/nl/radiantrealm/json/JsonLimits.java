@@ -0,0 +1,36 @@
+package nl.radiantrealm.json;
+
+public record JsonLimits(int maxDepth, long maxDocumentLength, int maxStringLength, int maxNumberLength, int maxObjectMembers) {
+    public static final JsonLimits DEFAULT = new JsonLimits(1000, Long.MAX_VALUE, 20_000_000, 1000, Integer.MAX_VALUE);
+    public static final JsonLimits NONE = new JsonLimits(Integer.MAX_VALUE, Long.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    public JsonLimits {
+        if (maxDepth <= 0 || maxDocumentLength <= 0 || maxStringLength < 0 || maxNumberLength <= 0 || maxObjectMembers < 0) {
+            throw new IllegalArgumentException("Limits must be positive.");
+        }
+    }
+
+    public JsonLimits withMaxDepth(int maxDepth) {
+        return new JsonLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+    }
+
+    public JsonLimits withMaxDocumentLength(long maxDocumentLength) {
+        return new JsonLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+    }
+
+    public JsonLimits withMaxStringLength(int maxStringLength) {
+        return new JsonLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+    }
+
+    public JsonLimits withMaxNumberLength(int maxNumberLength) {
+        return new JsonLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+    }
+
+    public JsonLimits withMaxObjectMembers(int maxObjectMembers) {
+        return new JsonLimits(maxDepth, maxDocumentLength, maxStringLength, maxNumberLength, maxObjectMembers);
+    }
+
+    static JsonException exceeded(String limit, long value, long position) {
+        return new JsonException(String.format("%s exceeds limit of %s", limit, value), position);
+    }
+}
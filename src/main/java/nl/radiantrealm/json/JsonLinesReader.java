@@ -0,0 +1,234 @@
+package nl.radiantrealm.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class JsonLinesReader implements Closeable {
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+    private final InputStream stream;
+
+    private Executor executor = ForkJoinPool.commonPool();
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private int maxPendingChunks = Runtime.getRuntime().availableProcessors() * 2;
+    private boolean ordered = true;
+
+    private byte[] carry = new byte[0];
+    private int carryLength;
+    private long offset;
+    private boolean exhausted;
+
+    public JsonLinesReader(InputStream input) {
+        this.stream = input;
+    }
+
+    public JsonLinesReader(Path path) throws IOException {
+        this(Files.newInputStream(path));
+    }
+
+    public JsonLinesReader setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        return this;
+    }
+
+    public JsonLinesReader setChunkSize(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    public JsonLinesReader setMaxPendingChunks(int maxPendingChunks) {
+        if (maxPendingChunks <= 0) {
+            throw new IllegalArgumentException("Max pending chunks must be positive.");
+        }
+
+        this.maxPendingChunks = maxPendingChunks;
+        return this;
+    }
+
+    public JsonLinesReader setOrdered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    public Stream<JsonElement> stream() {
+        Spliterator<JsonElement> spliterator = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.NONNULL | (ordered ? Spliterator.ORDERED : 0)) {
+            private final ArrayDeque<CompletableFuture<List<JsonElement>>> pending = new ArrayDeque<>();
+            private final LinkedBlockingQueue<CompletableFuture<List<JsonElement>>> completed = new LinkedBlockingQueue<>();
+
+            private List<JsonElement> batch = List.of();
+            private int index;
+            private int inFlight;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super JsonElement> action) {
+                while (index == batch.size()) {
+                    while (inFlight < maxPendingChunks && submit()) {
+                        inFlight++;
+                    }
+
+                    if (inFlight == 0) {
+                        return false;
+                    }
+
+                    batch = join(ordered ? pending.poll() : take());
+                    index = 0;
+                    inFlight--;
+                }
+
+                action.accept(batch.get(index++));
+                return true;
+            }
+
+            private boolean submit() {
+                Chunk chunk = nextChunk();
+
+                if (chunk == null) {
+                    return false;
+                }
+
+                CompletableFuture<List<JsonElement>> future = CompletableFuture.supplyAsync(() -> parse(chunk), executor);
+
+                if (ordered) {
+                    pending.add(future);
+                } else {
+                    future.whenComplete((result, error) -> completed.add(future));
+                }
+
+                return true;
+            }
+
+            private CompletableFuture<List<JsonElement>> take() {
+                try {
+                    return completed.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CompletionException(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(spliterator, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public void forEach(Consumer<? super JsonElement> consumer) {
+        try (Stream<JsonElement> elements = stream()) {
+            elements.forEach(consumer);
+        }
+    }
+
+    private Chunk nextChunk() {
+        if (exhausted) {
+            return null;
+        }
+
+        byte[] buf = Arrays.copyOf(carry, Math.max(chunkSize, carryLength * 2));
+        int length = carryLength;
+
+        try {
+            while (true) {
+                while (length < buf.length) {
+                    int read = stream.read(buf, length, buf.length - length);
+
+                    if (read < 0) {
+                        exhausted = true;
+                        break;
+                    }
+
+                    length += read;
+                }
+
+                int end = length;
+
+                if (!exhausted) {
+                    while (end > carryLength && buf[end - 1] != '\n') {
+                        end--;
+                    }
+
+                    if (end == carryLength) {
+                        buf = Arrays.copyOf(buf, buf.length * 2);
+                        continue;
+                    }
+                }
+
+                carryLength = length - end;
+                carry = Arrays.copyOfRange(buf, end, length);
+
+                Chunk chunk = new Chunk(buf, end, offset);
+                offset += end;
+                return end == 0 ? null : chunk;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<JsonElement> parse(Chunk chunk) {
+        ArrayList<JsonElement> elements = new ArrayList<>();
+        JsonParser parser = new JsonParser(chunk.buf, 0, chunk.length);
+
+        try {
+            while (parser.hasNext()) {
+                elements.add(parser.getJsonElement());
+            }
+        } catch (JsonException e) {
+            if (e.getPosition() < 0) {
+                throw new JsonException(String.format("Invalid Json record in chunk at byte offset %s: %s", chunk.offset, e.getMessage()), e);
+            }
+
+            int position = (int) Math.min(e.getPosition(), chunk.length);
+            int start = position;
+
+            while (start > 0 && chunk.buf[start - 1] != '\n') {
+                start--;
+            }
+
+            String reason = e.getMessage().substring(0, e.getMessage().lastIndexOf(" at position "));
+            String message = String.format("Invalid Json record at column %s: %s", position - start + 1, reason);
+            throw new JsonException(message, chunk.offset + position, e);
+        }
+
+        return elements;
+    }
+
+    private static List<JsonElement> join(CompletableFuture<List<JsonElement>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException exception) {
+                throw exception;
+            }
+
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+
+    private record Chunk(byte[] buf, int length, long offset) {}
+}
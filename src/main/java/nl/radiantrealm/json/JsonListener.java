@@ -0,0 +1,13 @@
+package nl.radiantrealm.json;
+
+public interface JsonListener {
+
+    default void onParse(long length, int depth, long nanos) {
+    }
+
+    default void onSerialize(long length, int depth, long nanos) {
+    }
+
+    default void onError(RuntimeException exception) {
+    }
+}
@@ -0,0 +1,80 @@
+package nl.radiantrealm.json;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+class JsonLongPrimitive extends JsonPrimitive {
+    final long value;
+
+    JsonLongPrimitive(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(value);
+    }
+
+    @Override
+    public Object getValue() {
+        return getAsNumber();
+    }
+
+    @Override
+    public boolean isNumber() {
+        return true;
+    }
+
+    @Override
+    public boolean getAsBoolean() {
+        return switch ((int) value) {
+            case 0 -> false;
+            case 1 -> true;
+            default -> throw new IllegalArgumentException("Invalid boolean value.");
+        };
+    }
+
+    @Override
+    public Number getAsNumber() {
+        if (object == null) {
+            object = value;
+        }
+
+        return (Number) object;
+    }
+
+    @Override
+    public long getAsLong() {
+        return value;
+    }
+
+    @Override
+    public int getAsInt() {
+        return (int) value;
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value;
+    }
+
+    @Override
+    public String getAsString() {
+        return Long.toString(value);
+    }
+
+    @Override
+    public UUID getAsUUID() {
+        throw new IllegalStateException("Not a JSON String.");
+    }
+
+    @Override
+    public <T extends Enum<T>> Enum<T> getAsEnum(Class<T> enumerator) {
+        throw new IllegalStateException("Not a JSON String.");
+    }
+
+    @Override
+    public BigDecimal getAsBigDecimal() {
+        return BigDecimal.valueOf(value);
+    }
+}
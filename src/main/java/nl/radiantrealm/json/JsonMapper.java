@@ -0,0 +1,73 @@
+package nl.radiantrealm.json;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+public final class JsonMapper<T> {
+    private static final ClassValue<JsonMapper<?>> MAPPERS = new ClassValue<>() {
+        @Override
+        protected JsonMapper<?> computeValue(Class<?> type) {
+            return new JsonMapper<>(type, JsonBeanCodec.of(type));
+        }
+    };
+
+    private static final ClassValue<MethodHandle> CONVERTIBLE_CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                return JsonBeanCodec.lookup(type)
+                        .findConstructor(type, MethodType.methodType(void.class, JsonObject.class))
+                        .asType(MethodType.methodType(Object.class, JsonObject.class));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return null;
+            }
+        }
+    };
+
+    private final Class<T> type;
+    private final JsonCodec codec;
+
+    private JsonMapper(Class<T> type, JsonCodec codec) {
+        this.type = type;
+        this.codec = codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> JsonMapper<T> of(Class<T> type) {
+        return (JsonMapper<T>) MAPPERS.get(type);
+    }
+
+    static MethodHandle convertibleConstructor(Class<?> type) {
+        return CONVERTIBLE_CONSTRUCTORS.get(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public JsonObject toJson(T value) {
+        return codec.encode(value).getAsJsonObject();
+    }
+
+    public T fromJson(JsonObject object) {
+        return type.cast(codec.decode(object));
+    }
+
+    public void write(JsonWriter writer, T value) {
+        codec.write(writer, value);
+    }
+
+    public T read(JsonReader reader) {
+        return type.cast(codec.read(reader));
+    }
+
+    public String toJsonString(T value) {
+        StringBuilder builder = new StringBuilder();
+        codec.write(new JsonWriter(builder), value);
+        return builder.toString();
+    }
+
+    public T fromJsonString(String json) {
+        return read(new JsonReader(json));
+    }
+}
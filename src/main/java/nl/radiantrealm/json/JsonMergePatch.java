@@ -0,0 +1,64 @@
+package nl.radiantrealm.json;
+
+public final class JsonMergePatch {
+
+    private JsonMergePatch() {
+    }
+
+    public static JsonElement diff(JsonElement source, JsonElement target) {
+        if (!(source instanceof JsonObject left) || !(target instanceof JsonObject right)) {
+            return target;
+        }
+
+        JsonObject patch = new JsonObject();
+
+        for (int i = 0; i < left.size(); i++) {
+            if (!right.has(left.keyAt(i))) {
+                patch.add(left.keyAt(i), JsonNull.INSTANCE);
+            }
+        }
+
+        for (int i = 0; i < right.size(); i++) {
+            String key = right.keyAt(i);
+            JsonElement before = left.get(key);
+            JsonElement after = right.valueAt(i);
+
+            if (before == null) {
+                patch.add(key, after);
+            } else if (before != after) {
+                if (before instanceof JsonObject && after instanceof JsonObject) {
+                    JsonObject nested = (JsonObject) diff(before, after);
+
+                    if (!nested.isEmpty()) {
+                        patch.add(key, nested);
+                    }
+                } else if (!JsonElement.equivalent(before, after)) {
+                    patch.add(key, after);
+                }
+            }
+        }
+
+        return patch;
+    }
+
+    public static JsonElement apply(JsonElement target, JsonElement patch) {
+        if (!(patch instanceof JsonObject changes)) {
+            return patch.deepCopy();
+        }
+
+        JsonObject result = target instanceof JsonObject object ? object : new JsonObject();
+
+        for (int i = 0; i < changes.size(); i++) {
+            String key = changes.keyAt(i);
+            JsonElement value = changes.valueAt(i);
+
+            if (value instanceof JsonNull) {
+                result.remove(key);
+            } else {
+                result.add(key, apply(result.get(key), value));
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package nl.radiantrealm.json;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class JsonMetrics implements JsonListener {
+    private final LongAdder parsedDocuments = new LongAdder();
+    private final LongAdder parsedLength = new LongAdder();
+    private final LongAdder parseNanos = new LongAdder();
+    private final LongAccumulator parseMaxDepth = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder serializedDocuments = new LongAdder();
+    private final LongAdder serializedChars = new LongAdder();
+    private final LongAdder serializeNanos = new LongAdder();
+    private final LongAccumulator serializeMaxDepth = new LongAccumulator(Math::max, 0);
+
+    private final LongAdder errors = new LongAdder();
+
+    @Override
+    public void onParse(long length, int depth, long nanos) {
+        parsedDocuments.increment();
+        parsedLength.add(length);
+        parseNanos.add(nanos);
+        parseMaxDepth.accumulate(depth);
+    }
+
+    @Override
+    public void onSerialize(long length, int depth, long nanos) {
+        serializedDocuments.increment();
+        serializedChars.add(length);
+        serializeNanos.add(nanos);
+        serializeMaxDepth.accumulate(depth);
+    }
+
+    @Override
+    public void onError(RuntimeException exception) {
+        errors.increment();
+    }
+
+    public long getParsedDocuments() {
+        return parsedDocuments.sum();
+    }
+
+    public long getParsedLength() {
+        return parsedLength.sum();
+    }
+
+    public long getParseNanos() {
+        return parseNanos.sum();
+    }
+
+    public int getParseMaxDepth() {
+        return (int) parseMaxDepth.get();
+    }
+
+    public long getSerializedDocuments() {
+        return serializedDocuments.sum();
+    }
+
+    public long getSerializedChars() {
+        return serializedChars.sum();
+    }
+
+    public long getSerializeNanos() {
+        return serializeNanos.sum();
+    }
+
+    public int getSerializeMaxDepth() {
+        return (int) serializeMaxDepth.get();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public void reset() {
+        parsedDocuments.reset();
+        parsedLength.reset();
+        parseNanos.reset();
+        parseMaxDepth.reset();
+        serializedDocuments.reset();
+        serializedChars.reset();
+        serializeNanos.reset();
+        serializeMaxDepth.reset();
+        errors.reset();
+    }
+}
@@ -9,7 +9,12 @@ public class JsonNull extends JsonElement {
     }
 
     @Override
-    protected String toString(StringBuilder builder, boolean prettyPrint) {
-        return "null";
+    public boolean equals(Object object) {
+        return object instanceof JsonNull;
+    }
+
+    @Override
+    public int hashCode() {
+        return 0x6E756C6C;
     }
 }
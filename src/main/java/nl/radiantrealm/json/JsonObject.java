@@ -4,89 +4,316 @@ import java.math.BigDecimal;
 import java.util.*;
 
 public class JsonObject extends JsonElement {
-    private final LinkedHashMap<String, JsonElement> map;
+    private static final int HASH_THRESHOLD = 8;
+
+    private static final String[] EMPTY_KEYS = new String[0];
+    private static final JsonElement[] EMPTY_VALUES = new JsonElement[0];
+
+    private String[] keys;
+    private JsonElement[] values;
+    private int[] table;
+    private int size;
+    private boolean frozen;
+    private int hash;
+    private long stamp;
 
     public JsonObject() {
-        this.map = new LinkedHashMap<>();
+        this.keys = EMPTY_KEYS;
+        this.values = EMPTY_VALUES;
     }
 
     public JsonObject(int capacity) {
-        this.map = new LinkedHashMap<>(capacity);
+        this.keys = new String[capacity];
+        this.values = new JsonElement[capacity];
     }
 
     @Override
     public JsonElement deepCopy() {
-        if (map.isEmpty()) {
-            return new JsonObject();
+        return copyTree(this);
+    }
+
+    @Override
+    public JsonObject freeze() {
+        freezeTree(this);
+        return this;
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    int cachedHash() {
+        return frozen || stamp == hashStamp() ? hash : 0;
+    }
+
+    @Override
+    void cacheHash(int hash) {
+        this.hash = hash;
+        this.stamp = hashStamp();
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (object == this) {
+            return true;
         }
 
-        JsonObject object = new JsonObject(map.size());
+        if (!(object instanceof JsonObject other)) {
+            return false;
+        }
 
-        for (Map.Entry<String, JsonElement> entry : map.entrySet()) {
-            object.add(entry.getKey(), entry.getValue());
+        if (isFrozen() && other.isFrozen() && hashCode() != other.hashCode()) {
+            return false;
         }
 
+        return equivalent(this, other);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = cachedHash();
+        return hash != 0 ? hash : hashTree(this);
+    }
+
+    @Override
+    boolean markFrozen() {
+        if (frozen) {
+            return false;
+        }
+
+        frozen = true;
+        return true;
+    }
+
+    public JsonObject with(String key, JsonElement element) {
+        JsonObject object = frozenCopy();
+        object.put(Objects.requireNonNull(key), element == null ? JsonNull.INSTANCE : element.freeze());
+        object.frozen = true;
         return object;
     }
 
+    public JsonObject without(String key) {
+        JsonObject object = frozenCopy();
+        int index = object.indexOf(key);
+
+        if (index >= 0) {
+            object.removeAt(index);
+        }
+
+        object.frozen = true;
+        return object;
+    }
+
+    private JsonObject frozenCopy() {
+        JsonObject source = frozen ? this : ((JsonObject) deepCopy()).freeze();
+        JsonObject object = new JsonObject();
+
+        object.keys = Arrays.copyOf(source.keys, source.size + 1);
+        object.values = Arrays.copyOf(source.values, source.size + 1);
+        object.table = source.table == null ? null : source.table.clone();
+        object.size = source.size;
+        return object;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Json Object is frozen.");
+        }
+
+        invalidateHashes(stamp);
+    }
+
+    private int indexOf(Object key) {
+        if (table == null) {
+            for (int i = 0; i < size; i++) {
+                if (key.equals(keys[i])) {
+                    return i;
+                }
+            }
+
+            return -1;
+        }
+
+        int mask = table.length - 1;
+        int slot = spread(key.hashCode()) & mask;
+
+        while (true) {
+            int entry = table[slot];
+
+            if (entry == 0) {
+                return -1;
+            }
+
+            if (key.equals(keys[entry - 1])) {
+                return entry - 1;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private JsonElement put(String key, JsonElement element) {
+        checkMutable();
+        int index = indexOf(key);
+
+        if (index >= 0) {
+            JsonElement previous = values[index];
+            values[index] = element;
+            return previous;
+        }
+
+        if (size == keys.length) {
+            int capacity = Math.max(4, size * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        keys[size] = key;
+        values[size++] = element;
+
+        if (table != null) {
+            if (size * 2 > table.length) {
+                rehash(table.length * 2);
+            } else {
+                insert(size - 1);
+            }
+        } else if (size > HASH_THRESHOLD) {
+            rehash(Integer.highestOneBit(size * 4));
+        }
+
+        return null;
+    }
+
+    private JsonElement removeAt(int index) {
+        checkMutable();
+        JsonElement previous = values[index];
+        int moved = size - index - 1;
+
+        System.arraycopy(keys, index + 1, keys, index, moved);
+        System.arraycopy(values, index + 1, values, index, moved);
+
+        keys[--size] = null;
+        values[size] = null;
+
+        if (table != null) {
+            rehash(table.length);
+        }
+
+        return previous;
+    }
+
+    private void rehash(int capacity) {
+        table = new int[capacity];
+
+        for (int i = 0; i < size; i++) {
+            insert(i);
+        }
+    }
+
+    private void insert(int index) {
+        int mask = table.length - 1;
+        int slot = spread(keys[index].hashCode()) & mask;
+
+        while (table[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+
+        table[slot] = index + 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    String keyAt(int index) {
+        return keys[index];
+    }
+
+    JsonElement valueAt(int index) {
+        return values[index];
+    }
+
     public JsonElement get(String key) {
-        return map.get(key);
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
     }
 
     public JsonArray getAsJsonArray(String key) {
-        return map.get(key).getAsJsonArray();
+        return get(key).getAsJsonArray();
     }
 
     public JsonNull getAsJsonNull(String key) {
-        return map.get(key).getAsJsonNull();
+        return get(key).getAsJsonNull();
     }
 
     public JsonObject getAsJsonObject(String key) {
-        return map.get(key).getAsJsonObject();
+        return get(key).getAsJsonObject();
     }
 
     public JsonPrimitive getAsJsonPrimitive(String key) {
-        return map.get(key).getAsJsonPrimitive();
+        return get(key).getAsJsonPrimitive();
     }
 
     public boolean getAsBoolean(String key) {
-        return map.get(key).getAsBoolean();
+        return get(key).getAsBoolean();
     }
 
     public Number getAsNumber(String key) {
-        return map.get(key).getAsNumber();
+        return get(key).getAsNumber();
+    }
+
+    public long getAsLong(String key) {
+        return get(key).getAsLong();
+    }
+
+    public int getAsInt(String key) {
+        return get(key).getAsInt();
+    }
+
+    public double getAsDouble(String key) {
+        return get(key).getAsDouble();
     }
 
     public String getAsString(String key) {
-        return map.get(key).getAsString();
+        return get(key).getAsString();
     }
 
     public UUID getAsUUID(String key) {
-        return map.get(key).getAsUUID();
+        return get(key).getAsUUID();
     }
 
     public <T extends Enum<T>> Enum<T> getAsEnum(String key, Class<T> enumerator) {
-        return map.get(key).getAsEnum(enumerator);
+        return get(key).getAsEnum(enumerator);
     }
 
     public BigDecimal getAsBigDecimal(String key) {
-        return map.get(key).getAsBigDecimal();
+        return get(key).getAsBigDecimal();
     }
 
     public void add(String key, JsonElement element) {
-        map.put(key, element == null ? JsonNull.INSTANCE : element);
+        put(Objects.requireNonNull(key), element == null ? JsonNull.INSTANCE : element);
     }
 
     public void add(String key, Boolean bool) {
-        map.put(key, bool == null ? JsonNull.INSTANCE : new JsonPrimitive(bool));
+        add(key, bool == null ? JsonNull.INSTANCE : new JsonPrimitive(bool));
     }
 
     public void add(String key, Number number) {
-        map.put(key, number == null ? JsonNull.INSTANCE : new JsonPrimitive(number));
+        add(key, number == null ? JsonNull.INSTANCE : new JsonPrimitive(number));
+    }
+
+    public void add(String key, long number) {
+        add(key, JsonPrimitive.of(number));
+    }
+
+    public void add(String key, double number) {
+        add(key, JsonPrimitive.of(number));
     }
 
     public void add(String key, String string) {
-        map.put(key, string == null ? JsonNull.INSTANCE : new JsonPrimitive(string));
+        add(key, string == null ? JsonNull.INSTANCE : new JsonPrimitive(string));
     }
 
     public void add(String key, UUID uuid) {
@@ -97,35 +324,230 @@ public class JsonObject extends JsonElement {
         add(key, enumerator.name());
     }
 
+    public JsonElement remove(String key) {
+        int index = indexOf(key);
+        return index < 0 ? null : removeAt(index);
+    }
+
     public int size() {
-        return map.size();
+        return size;
     }
 
     public boolean isEmpty() {
-        return map.isEmpty();
+        return size == 0;
     }
 
     public void clear() {
-        map.clear();
+        checkMutable();
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(values, 0, size, null);
+        table = null;
+        size = 0;
     }
 
     public Set<Map.Entry<String, JsonElement>> entrySet() {
-        return map.entrySet();
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Map.Entry<String, JsonElement>> iterator() {
+                return new Members<>() {
+                    @Override
+                    Map.Entry<String, JsonElement> get(int index) {
+                        return new Member(index);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     public Set<String> keySet() {
-        return map.keySet();
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<String> iterator() {
+                return new Members<>() {
+                    @Override
+                    String get(int index) {
+                        return keys[index];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return key != null && indexOf(key) >= 0;
+            }
+
+            @Override
+            public boolean remove(Object key) {
+                int index = key == null ? -1 : indexOf(key);
+
+                if (index < 0) {
+                    return false;
+                }
+
+                removeAt(index);
+                return true;
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     public Collection<JsonElement> values() {
-        return map.values();
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<JsonElement> iterator() {
+                return new Members<>() {
+                    @Override
+                    JsonElement get(int index) {
+                        return values[index];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
     }
 
     public boolean has(String key) {
-        return map.containsKey(key);
+        return indexOf(key) >= 0;
+    }
+
+    public Map<String, JsonElement> asMap() {
+        return new AbstractMap<>() {
+            @Override
+            public Set<Entry<String, JsonElement>> entrySet() {
+                return JsonObject.this.entrySet();
+            }
+
+            @Override
+            public Set<String> keySet() {
+                return JsonObject.this.keySet();
+            }
+
+            @Override
+            public Collection<JsonElement> values() {
+                return JsonObject.this.values();
+            }
+
+            @Override
+            public int size() {
+                return JsonObject.this.size();
+            }
+
+            @Override
+            public boolean containsKey(Object key) {
+                return key instanceof String string && has(string);
+            }
+
+            @Override
+            public JsonElement get(Object key) {
+                return key instanceof String string ? JsonObject.this.get(string) : null;
+            }
+
+            @Override
+            public JsonElement put(String key, JsonElement value) {
+                JsonElement previous = JsonObject.this.get(key);
+                add(key, value);
+                return previous;
+            }
+
+            @Override
+            public JsonElement remove(Object key) {
+                return key instanceof String string ? JsonObject.this.remove(string) : null;
+            }
+
+            @Override
+            public void clear() {
+                JsonObject.this.clear();
+            }
+        };
+    }
+
+    private abstract class Members<T> implements Iterator<T> {
+        private int cursor;
+        private int last = -1;
+
+        abstract T get(int index);
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public T next() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+
+            last = cursor++;
+            return get(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+
+            removeAt(last);
+            cursor = last;
+            last = -1;
+        }
     }
 
-    public LinkedHashMap<String, JsonElement> asMap() {
-        return map;
+    private final class Member implements Map.Entry<String, JsonElement> {
+        private final String key;
+        private final int index;
+
+        Member(int index) {
+            this.key = keys[index];
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public JsonElement getValue() {
+            return index < size && keys[index] == key ? values[index] : JsonObject.this.get(key);
+        }
+
+        @Override
+        public JsonElement setValue(JsonElement value) {
+            JsonElement previous = getValue();
+            add(key, value);
+            return previous;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof Map.Entry<?, ?> entry
+                    && key.equals(entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
     }
 }
@@ -0,0 +1,24 @@
+package nl.radiantrealm.json;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("nl.radiantrealm.json.Parse")
+@Label("Json Parse")
+@Category("Json")
+@Description("A Json document parsed by JsonParser.")
+final class JsonParseEvent extends Event {
+
+    @Label("Length")
+    @Description("Input consumed, in bytes for byte input and in chars for String input.")
+    long length;
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Error")
+    String error;
+}
@@ -1,259 +1,349 @@
 package nl.radiantrealm.json;
 
-import java.math.BigDecimal;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 public class JsonParser {
-    private final String input;
-    private int index;
+    private JsonLexer lexer;
+
+    private JsonElement[] stack = new JsonElement[16];
+    private int depth;
+    private int peak;
+
+    public JsonParser() {
+        this("");
+    }
 
     public JsonParser(String input) {
-        this.input = input;
+        this.lexer = new JsonStringLexer(input);
     }
 
-    public JsonObject getJsonObject() {
-        if (advance(true) == '{') {
-            return getJsonObject(new JsonObject());
+    public JsonParser(byte[] input) {
+        this(input, 0, input.length);
+    }
+
+    public JsonParser(byte[] input, int offset, int length) {
+        this.lexer = new JsonByteLexer(input, offset, length);
+    }
+
+    public JsonParser(ByteBuffer input) {
+        this.lexer = new JsonByteLexer(input);
+    }
+
+    public JsonParser(InputStream input) {
+        this.lexer = new JsonByteLexer(input);
+    }
+
+    public JsonParser(Path input) throws IOException {
+        this.lexer = new JsonByteLexer(input);
+    }
+
+    public JsonParser(JsonStructuralIndex index) {
+        this.lexer = new JsonIndexedLexer(index);
+    }
+
+    public JsonParser reset(String input) {
+        if (lexer instanceof JsonStringLexer string) {
+            string.reset(input);
         } else {
-            throw new JsonException("Not a Json Object.");
+            lexer = lexer.adopt(new JsonStringLexer(input));
         }
+
+        clear();
+        return this;
     }
 
-    private JsonObject getJsonObject(JsonObject object) {
-        char c = advance(true);
+    public JsonParser reset(byte[] input) {
+        return reset(input, 0, input.length);
+    }
 
-        return switch (c) {
-            case '"' -> {
-                String key = getJsonString(new StringBuilder());
+    public JsonParser reset(byte[] input, int offset, int length) {
+        if (lexer.getClass() == JsonByteLexer.class && lexer.isSeekable()) {
+            ((JsonByteLexer) lexer).reset(input, offset, length);
+        } else {
+            lexer = lexer.adopt(new JsonByteLexer(input, offset, length));
+        }
 
-                c = advance(true);
+        clear();
+        return this;
+    }
 
-                if (c != ':') {
-                    throw new JsonException(String.format("Unexpected character '%s' at position %s", c, index));
-                }
+    private void clear() {
+        Arrays.fill(stack, 0, depth, null);
+        depth = 0;
+    }
 
-                c = advance(true);
+    public JsonParser setSymbolTable(JsonSymbolTable symbols) {
+        lexer.symbols = symbols;
+        return this;
+    }
 
-                switch (c) {
-                    case '{' -> object.add(key, getJsonObject(new JsonObject()));
-                    case '[' -> object.add(key, getJsonArray(new JsonArray()));
-                    case '"' -> object.add(key, getJsonString(new StringBuilder()));
-                    case 't', 'f' -> object.add(key, getJsonBoolean(c == 't'));
-                    case 'n' -> object.add(key, getJsonNull());
-                    case '-', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> object.add(key, getJsonNumber(c));
-                    default -> throw new JsonException(String.format("Unexpected character '%s' at position %s", c, index));
-                }
+    public JsonParser setLimits(JsonLimits limits) {
+        lexer.limits = Objects.requireNonNull(limits);
+        return this;
+    }
 
-                yield getJsonObject(object);
-            }
+    public JsonObject getJsonObject() {
+        return JsonInstrumentation.isParseActive() ? measure(this::readJsonObject) : readJsonObject();
+    }
 
-            case ',' -> getJsonObject(object);
-            case '}' -> object;
-            default -> throw new JsonException(String.format("Unexpected character '%s' at position %s", c, index));
-        };
+    private JsonObject readJsonObject() {
+        if (first() == '{') {
+            return parse(new JsonObject());
+        } else {
+            throw new JsonException("Not a Json Object.");
+        }
     }
 
     public JsonArray getJsonArray() {
-        if (advance(true) == '[') {
+        return JsonInstrumentation.isParseActive() ? measure(this::readJsonArray) : readJsonArray();
+    }
+
+    private JsonArray readJsonArray() {
+        if (first() == '[') {
             return getJsonArray(new JsonArray());
         } else {
-            throw new JsonException("Not a Json Object.");
+            throw new JsonException("Not a Json Array.");
         }
     }
 
-    public JsonArray getJsonArray(JsonArray array) {
-        char c = advance(true);
+    public JsonElement getJsonElement() {
+        return JsonInstrumentation.isParseActive() ? measure(this::readJsonElement) : readJsonElement();
+    }
 
-        return switch (c) {
-            case '{' -> {
-                array.add(getJsonObject(new JsonObject()));
-                yield getJsonArray(array);
-            }
+    private JsonElement readJsonElement() {
+        char c = first();
 
-            case '[' -> {
-                array.add(getJsonArray(new JsonArray()));
-                yield getJsonArray(array);
+        return switch (c) {
+            case '{' -> parse(new JsonObject());
+            case '[' -> parse(new JsonArray());
+            case '"' -> new JsonPrimitive(lexer.readString());
+            case 't', 'f' -> new JsonPrimitive(getJsonBoolean(c == 't'));
+            case 'n' -> getJsonNull();
+            case '-', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> {
+                lexer.readNumber(c);
+                yield lexer.numberPrimitive();
             }
 
-            case '"' -> {
-                array.add(getJsonString(new StringBuilder()));
-                yield getJsonArray(array);
-            }
+            default -> throw lexer.unexpected(c);
+        };
+    }
 
-            case 't', 'f' -> {
-                array.add(getJsonBoolean(c == 't'));
-                yield getJsonArray(array);
-            }
+    public boolean hasNext() {
+        return !lexer.atEnd();
+    }
 
-            case 'n' -> {
-                array.add(getJsonNull());
-                yield getJsonArray(array);
-            }
+    public JsonObject getLazyJsonObject() {
+        return JsonInstrumentation.isParseActive() ? measure(this::readLazyJsonObject) : readLazyJsonObject();
+    }
 
-            case '-', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> {
-                array.add(getJsonNumber(c));
-                yield getJsonArray(array);
-            }
+    private JsonObject readLazyJsonObject() {
+        requireSeekable();
 
-            case ',' -> getJsonArray(array);
-            case ']' -> array;
-            default -> throw new JsonException(String.format("Unexpected character '%s' at position %s (expected '\"' or '}')", c, index));
-        };
+        if (first() == '{') {
+            JsonLexer owned = lexer.duplicate();
+            JsonObject object = JsonLazyObject.scan(owned);
+            lexer.seek(owned.position());
+            return object;
+        } else {
+            throw new JsonException("Not a Json Object.");
+        }
     }
 
-    private String getJsonString(StringBuilder builder) {
-        char c = advance(false);
-
-        return switch (c) {
-            case '\\' -> {
-                c = advance(false);
-
-                yield switch (c) {
-                    case '"' -> "\"";
-                    case '\\' -> "\\";
-                    case '/' -> "/";
-                    case 'b' -> "\b";
-                    case 'n' -> "\n";
-                    case 'r' -> "\r";
-                    case 't' -> "\t";
-                    case 'f' -> "\f";
-
-                    case 'u' -> {
-                        StringBuilder hexBuilder = new StringBuilder("u");
-
-                        for (int i = 0; i < 4; i++) {
-                            hexBuilder.append(advance(false));
-                        }
+    public JsonArray getLazyJsonArray() {
+        return JsonInstrumentation.isParseActive() ? measure(this::readLazyJsonArray) : readLazyJsonArray();
+    }
 
-                        yield hexBuilder.toString();
-                    }
+    private JsonArray readLazyJsonArray() {
+        requireSeekable();
 
-                    default -> "\\" + c;
-                };
-            }
+        if (first() == '[') {
+            JsonLexer owned = lexer.duplicate();
+            JsonArray array = JsonLazyArray.scan(owned);
+            lexer.seek(owned.position());
+            return array;
+        } else {
+            throw new JsonException("Not a Json Array.");
+        }
+    }
 
-            case '"' -> builder.toString();
-            default -> getJsonString(builder.append(c));
-        };
+    private <T extends JsonElement> T measure(Supplier<T> action) {
+        JsonParseEvent event = new JsonParseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        long from = lexer.position();
+        peak = 0;
+
+        try {
+            T result = action.get();
+            JsonInstrumentation.parsed(event, lexer.position() - from, peak, System.nanoTime() - start, null);
+            return result;
+        } catch (RuntimeException e) {
+            JsonInstrumentation.parsed(event, lexer.position() - from, peak, System.nanoTime() - start, e);
+            throw e;
+        }
     }
 
-    private boolean getJsonBoolean(boolean state) {
-        StringBuilder builder = new StringBuilder(state ? "t" : "f");
+    public JsonArray getJsonArray(JsonArray array) {
+        return parse(array);
+    }
 
-        for (int i = 0; i < (state ? 3 : 4); i++) {
-            char c = peek(false);
+    private <T extends JsonElement> T parse(T root) {
+        int base = depth;
+        push(root);
 
-            switch (c) {
-                case 'r', 'u', 'e', 'a', 'l', 's' -> {
-                    advance(false);
-                    builder.append(c);
-                }
+        char c = lexer.next();
 
-                default -> throw new JsonException(String.format("Unexpected character '%s' at position %s", c, index));
-            }
+        if (c == closer(root)) {
+            depth = base;
+            return root;
         }
 
-        return switch (builder.toString()) {
-            case "true" -> true;
-            case "false" -> false;
-            default -> throw new IllegalArgumentException("Invalid boolean value.");
-        };
-    }
+        while (true) {
+            JsonElement container = stack[depth - 1];
+            String key = null;
 
-    private JsonNull getJsonNull() {
-        StringBuilder builder = new StringBuilder("n");
+            if (container instanceof JsonObject) {
+                if (c != '"') {
+                    throw lexer.unexpected(c);
+                }
 
-        for (int i = 0; i < 3; i++) {
-            char c = peek(false);
+                key = lexer.readKey();
+                c = lexer.next();
 
-            switch (c) {
-                case 'u', 'l' -> {
-                    advance(false);
-                    builder.append(c);
+                if (c != ':') {
+                    throw lexer.unexpected(c);
                 }
 
-                default -> throw new JsonException(String.format("Unexpected character '%s' at position %s", c, index));
+                c = lexer.next();
             }
-        }
 
-        if (builder.toString().equals("null")) {
-            return JsonNull.INSTANCE;
-        } else {
-            throw new IllegalArgumentException("Invalid null value.");
-        }
-    }
+            if (container instanceof JsonArray array && (c == '-' || (c >= '0' && c <= '9'))) {
+                lexer.readNumber(c);
 
-    public Number getJsonNumber(char firstChar) {
-        return new BigDecimal(getJsonNumber(new StringBuilder(switch (firstChar) {
-            case '-' -> {
-                char c = peek(false);
+                switch (lexer.numberType) {
+                    case JsonLexer.NUMBER_LONG -> array.addLong(lexer.longValue);
+                    case JsonLexer.NUMBER_DOUBLE -> array.addDouble(lexer.doubleValue);
+                    default -> array.add(lexer.numberPrimitive());
+                }
+            } else {
+                JsonElement element = switch (c) {
+                    case '{' -> new JsonObject();
+                    case '[' -> new JsonArray();
+                    case '"' -> new JsonPrimitive(lexer.readString());
+                    case 't', 'f' -> new JsonPrimitive(getJsonBoolean(c == 't'));
+                    case 'n' -> getJsonNull();
+                    case '-', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> {
+                        lexer.readNumber(c);
+                        yield lexer.numberPrimitive();
+                    }
+
+                    default -> throw lexer.unexpected(c);
+                };
 
-                int i = Character.getNumericValue(c);
+                switch (container) {
+                    case JsonObject object -> {
+                        if (object.size() >= lexer.limits.maxObjectMembers()) {
+                            throw JsonLimits.exceeded("Object member count", lexer.limits.maxObjectMembers(), lexer.position());
+                        }
 
-                yield switch (i) {
-                    case 1, 2, 3, 4, 5, 6, 7, 8, 9, 0 -> {
-                        yield String.valueOf(i);
+                        object.add(key, element);
                     }
 
-                    default -> throw new JsonException(String.format("Unexpected character '%s' at position %s", c, index));
-                };
-            }
+                    case JsonArray array -> array.add(element);
+                    default -> throw new IllegalStateException();
+                }
 
-            case '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> {
-                int i = Character.getNumericValue(firstChar);
+                if (element instanceof JsonObject || element instanceof JsonArray) {
+                    push(element);
+                    c = lexer.next();
 
-                yield switch (i) {
-                    case 1, 2, 3, 4, 5, 6, 7, 8, 9, 0 -> {
-                        yield String.valueOf(i);
+                    if (c != closer(element)) {
+                        continue;
                     }
 
-                    default -> throw new JsonException(String.format("Unexpected character '%s' at position %s", firstChar, index));
-                };
+                    stack[--depth] = null;
+                }
             }
-            default -> throw new JsonException(String.format("Unexpected character '%s' at position %s", firstChar, index));
-        })));
-    }
 
-    public String getJsonNumber(StringBuilder builder) {
-        char c = peek(false);
+            while (true) {
+                c = lexer.next();
 
-        return switch (c) {
-            case '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '.', 'e', 'E', '+', '-' -> {
-                advance(true);
-                yield getJsonNumber(builder.append(c));
+                if (c == ',') {
+                    c = lexer.next();
+                    break;
+                }
+
+                if (c != closer(stack[depth - 1])) {
+                    throw lexer.unexpected(c);
+                }
+
+                stack[--depth] = null;
+
+                if (depth == base) {
+                    return root;
+                }
             }
+        }
+    }
 
-            default -> builder.toString();
-        };
+    private void requireSeekable() {
+        if (!lexer.isSeekable()) {
+            throw new UnsupportedOperationException("Lazy parsing requires String, byte[] or heap ByteBuffer input.");
+        }
     }
 
-    private char peek(boolean skipWhiteSpace) {
-        int peekIndex = index;
+    private char first() {
+        lexer.checkDocumentLength();
+        return lexer.next();
+    }
 
-        if (skipWhiteSpace) {
-            while (peekIndex < input.length() && Character.isWhitespace(input.charAt(peekIndex))) {
-                peekIndex++;
-            }
+    private void push(JsonElement element) {
+        if (depth >= lexer.limits.maxDepth()) {
+            throw JsonLimits.exceeded("Nesting depth", lexer.limits.maxDepth(), lexer.position());
         }
 
-        if (peekIndex >= input.length()) {
-            throw new ArrayIndexOutOfBoundsException(String.format("Unexpected end of Json input at position %s", index));
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
         }
 
-        return input.charAt(peekIndex);
+        stack[depth++] = element;
+
+        if (depth > peak) {
+            peak = depth;
+        }
     }
 
-    private char advance(boolean skipWhiteSpace) {
-        while (index < input.length()) {
-            char c = input.charAt(index);
+    private static char closer(JsonElement element) {
+        return element instanceof JsonObject ? '}' : ']';
+    }
 
-            if (skipWhiteSpace && Character.isWhitespace(c)) {
-                index++;
-            } else {
-                index++;
-                return c;
-            }
+    private boolean getJsonBoolean(boolean state) {
+        lexer.expect(state ? "rue" : "alse");
+        return state;
+    }
+
+    private JsonNull getJsonNull() {
+        lexer.expect("ull");
+        return JsonNull.INSTANCE;
+    }
+
+    public Number getJsonNumber(char firstChar) {
+        if (firstChar != '-' && (firstChar < '0' || firstChar > '9')) {
+            throw lexer.unexpected(firstChar);
         }
 
-        throw new ArrayIndexOutOfBoundsException(String.format("Unexpected end of Json input at position %s", index));
+        lexer.readNumber(firstChar);
+        return lexer.numberValue();
+    }
+
+    public String getJsonNumber(StringBuilder builder) {
+        lexer.appendNumber(builder);
+        return builder.toString();
     }
 }
@@ -0,0 +1,361 @@
+package nl.radiantrealm.json;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class JsonPatch {
+    private static final String[] NAMES = {"add", "remove", "replace", "move", "copy", "test"};
+
+    static final int ADD = 0;
+    static final int REMOVE = 1;
+    static final int REPLACE = 2;
+    static final int MOVE = 3;
+    static final int COPY = 4;
+    static final int TEST = 5;
+
+    private final List<Operation> operations;
+
+    private JsonPatch(List<Operation> operations) {
+        this.operations = operations;
+    }
+
+    public static JsonPatch fromJson(JsonArray array) {
+        List<Operation> operations = new ArrayList<>(array.size());
+
+        for (JsonElement element : array) {
+            if (!(element instanceof JsonObject object)) {
+                throw new JsonException("Json Patch operation is not a Json Object.");
+            }
+
+            String name = member(object, "op").getAsString();
+            int kind = List.of(NAMES).indexOf(name);
+
+            if (kind < 0) {
+                throw new JsonException(String.format("Unknown Json Patch operation '%s'.", name));
+            }
+
+            JsonPointer path = JsonPointer.compile(member(object, "path").getAsString());
+            JsonPointer from = kind == MOVE || kind == COPY ? JsonPointer.compile(member(object, "from").getAsString()) : null;
+            JsonElement value = kind == ADD || kind == REPLACE || kind == TEST ? member(object, "value") : null;
+            operations.add(new Operation(kind, path, from, value));
+        }
+
+        return new JsonPatch(operations);
+    }
+
+    private static JsonElement member(JsonObject object, String key) {
+        JsonElement element = object.get(key);
+
+        if (element == null) {
+            throw new JsonException(String.format("Json Patch operation is missing '%s'.", key));
+        }
+
+        return element;
+    }
+
+    public static JsonPatch diff(JsonElement source, JsonElement target) {
+        List<Operation> operations = new ArrayList<>();
+        ArrayDeque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(source, target, null));
+
+        while (!stack.isEmpty()) {
+            Frame frame = stack.pop();
+            JsonElement a = frame.source;
+            JsonElement b = frame.target;
+
+            if (a == b) {
+                continue;
+            }
+
+            if (a instanceof JsonObject left && b instanceof JsonObject right) {
+                for (int i = 0; i < left.size(); i++) {
+                    String key = left.keyAt(i);
+                    JsonElement value = right.get(key);
+
+                    if (value == null) {
+                        operations.add(new Operation(REMOVE, frame.pointer(key), null, null));
+                    } else {
+                        stack.push(new Frame(left.valueAt(i), value, new Path(frame.path, key)));
+                    }
+                }
+
+                for (int i = 0; i < right.size(); i++) {
+                    String key = right.keyAt(i);
+
+                    if (!left.has(key)) {
+                        operations.add(new Operation(ADD, frame.pointer(key), null, right.valueAt(i)));
+                    }
+                }
+            } else if (a instanceof JsonArray left && b instanceof JsonArray right) {
+                int prefix = 0;
+                int suffix = 0;
+                int min = Math.min(left.size(), right.size());
+
+                while (prefix < min && JsonElement.equivalent(left.get(prefix), right.get(prefix))) {
+                    prefix++;
+                }
+
+                while (suffix < min - prefix && JsonElement.equivalent(left.get(left.size() - 1 - suffix), right.get(right.size() - 1 - suffix))) {
+                    suffix++;
+                }
+
+                int common = min - suffix;
+
+                for (int i = prefix; i < common; i++) {
+                    stack.push(new Frame(left.get(i), right.get(i), new Path(frame.path, Integer.toString(i))));
+                }
+
+                for (int i = left.size() - suffix - 1; i >= common; i--) {
+                    operations.add(new Operation(REMOVE, frame.pointer(Integer.toString(i)), null, null));
+                }
+
+                for (int i = common; i < right.size() - suffix; i++) {
+                    operations.add(new Operation(ADD, frame.pointer(Integer.toString(i)), null, right.get(i)));
+                }
+            } else if (!JsonElement.equivalent(a, b)) {
+                operations.add(new Operation(REPLACE, frame.pointer(null), null, b));
+            }
+        }
+
+        return new JsonPatch(operations);
+    }
+
+    public JsonElement apply(JsonElement document) {
+        JsonElement root = document;
+
+        for (Operation operation : operations) {
+            root = switch (operation.kind) {
+                case ADD -> add(root, operation.path, operation.value.deepCopy());
+                case REMOVE -> remove(root, operation.path);
+                case REPLACE -> replace(root, operation.path, operation.value.deepCopy());
+
+                case MOVE -> {
+                    if (isPrefix(operation.from, operation.path)) {
+                        throw failed(operation, "cannot move a value into itself");
+                    }
+
+                    JsonElement value = require(root, operation.from);
+                    yield add(remove(root, operation.from), operation.path, value);
+                }
+
+                case COPY -> add(root, operation.path, require(root, operation.from).deepCopy());
+
+                default -> {
+                    if (!JsonElement.equivalent(require(root, operation.path), operation.value)) {
+                        throw failed(operation, "value does not match");
+                    }
+
+                    yield root;
+                }
+            };
+        }
+
+        return root;
+    }
+
+    private static JsonElement add(JsonElement root, JsonPointer path, JsonElement value) {
+        if (path.isRoot()) {
+            return value;
+        }
+
+        int last = path.tokens.length - 1;
+        String token = path.tokens[last];
+
+        switch (parent(root, path)) {
+            case JsonObject object -> object.add(token, value);
+
+            case JsonArray array -> {
+                int index = token.equals("-") ? array.size() : path.indices[last];
+
+                if (index < 0 || index > array.size()) {
+                    throw missing(path);
+                }
+
+                array.add(index, value);
+            }
+
+            default -> throw missing(path);
+        }
+
+        return root;
+    }
+
+    private static JsonElement replace(JsonElement root, JsonPointer path, JsonElement value) {
+        if (path.isRoot()) {
+            return value;
+        }
+
+        int last = path.tokens.length - 1;
+
+        switch (parent(root, path)) {
+            case JsonObject object -> {
+                if (!object.has(path.tokens[last])) {
+                    throw missing(path);
+                }
+
+                object.add(path.tokens[last], value);
+            }
+
+            case JsonArray array -> {
+                int index = path.indices[last];
+
+                if (index < 0 || index >= array.size()) {
+                    throw missing(path);
+                }
+
+                array.set(index, value);
+            }
+
+            default -> throw missing(path);
+        }
+
+        return root;
+    }
+
+    private static JsonElement remove(JsonElement root, JsonPointer path) {
+        if (path.isRoot()) {
+            return null;
+        }
+
+        int last = path.tokens.length - 1;
+
+        switch (parent(root, path)) {
+            case JsonObject object -> {
+                if (object.remove(path.tokens[last]) == null) {
+                    throw missing(path);
+                }
+            }
+
+            case JsonArray array -> {
+                int index = path.indices[last];
+
+                if (index < 0 || index >= array.size()) {
+                    throw missing(path);
+                }
+
+                array.remove(index);
+            }
+
+            default -> throw missing(path);
+        }
+
+        return root;
+    }
+
+    private static JsonElement parent(JsonElement root, JsonPointer path) {
+        JsonElement current = root;
+        int last = path.tokens.length - 1;
+
+        for (int i = 0; i < last && current != null; i++) {
+            current = switch (current) {
+                case JsonObject object -> object.get(path.tokens[i]);
+                case JsonArray array -> path.indices[i] >= 0 && path.indices[i] < array.size() ? array.get(path.indices[i]) : null;
+                default -> null;
+            };
+        }
+
+        if (current == null) {
+            throw missing(path);
+        }
+
+        return current;
+    }
+
+    private static JsonElement require(JsonElement root, JsonPointer path) {
+        JsonElement element = root == null ? null : path.get(root);
+
+        if (element == null) {
+            throw missing(path);
+        }
+
+        return element;
+    }
+
+    private static boolean isPrefix(JsonPointer prefix, JsonPointer path) {
+        if (prefix.tokens.length >= path.tokens.length) {
+            return false;
+        }
+
+        for (int i = 0; i < prefix.tokens.length; i++) {
+            if (!prefix.tokens[i].equals(path.tokens[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static JsonException missing(JsonPointer path) {
+        return new JsonException(String.format("Json Patch path '%s' does not exist.", path));
+    }
+
+    private static JsonException failed(Operation operation, String reason) {
+        return new JsonException(String.format("Json Patch %s at '%s' failed: %s.", NAMES[operation.kind], operation.path, reason));
+    }
+
+    public JsonArray toJson() {
+        JsonArray array = new JsonArray(operations.size());
+
+        for (Operation operation : operations) {
+            JsonObject object = new JsonObject();
+            object.add("op", NAMES[operation.kind]);
+
+            if (operation.from != null) {
+                object.add("from", operation.from.toString());
+            }
+
+            object.add("path", operation.path.toString());
+
+            if (operation.value != null) {
+                object.add("value", operation.value);
+            }
+
+            array.add(object);
+        }
+
+        return array;
+    }
+
+    public int size() {
+        return operations.size();
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return toJson().toString();
+    }
+
+    private record Operation(int kind, JsonPointer path, JsonPointer from, JsonElement value) {
+    }
+
+    private record Path(Path parent, String token) {
+    }
+
+    private record Frame(JsonElement source, JsonElement target, Path path) {
+
+        JsonPointer pointer(String token) {
+            int length = token == null ? 0 : 1;
+
+            for (Path node = path; node != null; node = node.parent) {
+                length++;
+            }
+
+            String[] tokens = new String[length];
+
+            if (token != null) {
+                tokens[--length] = token;
+            }
+
+            for (Path node = path; node != null; node = node.parent) {
+                tokens[--length] = node.token;
+            }
+
+            return JsonPointer.of(tokens);
+        }
+    }
+}
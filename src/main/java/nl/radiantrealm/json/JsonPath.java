@@ -0,0 +1,327 @@
+package nl.radiantrealm.json;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public final class JsonPath {
+    static final int NAME = 0;
+    static final int INDEX = 1;
+    static final int WILDCARD = 2;
+    static final int TOKEN = 3;
+
+    private static final int MAX_STEPS = 63;
+
+    private final String expression;
+    private final Step[] steps;
+    private final long full;
+
+    JsonPath(String expression, Step[] steps) {
+        if (steps.length > MAX_STEPS) {
+            throw new JsonException(String.format("Path '%s' has more than %s steps.", expression, MAX_STEPS));
+        }
+
+        this.expression = expression;
+        this.steps = steps;
+        this.full = 1L << steps.length;
+    }
+
+    public static JsonPath compile(String expression) {
+        if (expression.isEmpty() || expression.charAt(0) != '$') {
+            throw invalid(expression, 0);
+        }
+
+        List<Step> steps = new ArrayList<>();
+        int length = expression.length();
+        int i = 1;
+
+        while (i < length) {
+            char c = expression.charAt(i);
+            boolean descendant = false;
+
+            if (c == '.') {
+                i++;
+
+                if (i < length && expression.charAt(i) == '.') {
+                    descendant = true;
+                    i++;
+                }
+
+                if (i < length && expression.charAt(i) == '[') {
+                    if (!descendant) {
+                        throw invalid(expression, i);
+                    }
+
+                    c = '[';
+                } else {
+                    int start = i;
+
+                    while (i < length && expression.charAt(i) != '.' && expression.charAt(i) != '[') {
+                        i++;
+                    }
+
+                    if (start == i) {
+                        throw invalid(expression, i);
+                    }
+
+                    String name = expression.substring(start, i);
+                    steps.add(name.equals("*") ? new Step(WILDCARD, null, 0, descendant) : new Step(NAME, name, 0, descendant));
+                    continue;
+                }
+            }
+
+            if (c != '[') {
+                throw invalid(expression, i);
+            }
+
+            int end = expression.indexOf(']', i);
+
+            if (end < 0) {
+                throw invalid(expression, i);
+            }
+
+            String selector = expression.substring(i + 1, end).trim();
+            i = end + 1;
+
+            if (selector.equals("*")) {
+                steps.add(new Step(WILDCARD, null, 0, descendant));
+            } else if (selector.length() >= 2 && (selector.charAt(0) == '\'' || selector.charAt(0) == '"') && selector.charAt(selector.length() - 1) == selector.charAt(0)) {
+                steps.add(new Step(NAME, selector.substring(1, selector.length() - 1), 0, descendant));
+            } else {
+                try {
+                    steps.add(new Step(INDEX, null, Integer.parseInt(selector), descendant));
+                } catch (NumberFormatException e) {
+                    throw invalid(expression, end);
+                }
+            }
+        }
+
+        return new JsonPath(expression, steps.toArray(new Step[0]));
+    }
+
+    private static JsonException invalid(String expression, int position) {
+        return new JsonException(String.format("Invalid Json path '%s'", expression), position);
+    }
+
+    public List<JsonElement> select(JsonElement root) {
+        List<JsonElement> result = new ArrayList<>();
+        select(root, result::add);
+        return result;
+    }
+
+    public void select(JsonElement root, Consumer<? super JsonElement> consumer) {
+        evaluate(root, 1L, consumer);
+    }
+
+    public List<JsonElement> select(JsonReader reader) {
+        List<JsonElement> result = new ArrayList<>();
+        select(reader, result::add);
+        return result;
+    }
+
+    public void select(JsonReader reader, Consumer<? super JsonElement> consumer) {
+        for (Step step : steps) {
+            if (step.kind == INDEX && step.index < 0) {
+                throw new UnsupportedOperationException("Negative array indices require a tree.");
+            }
+        }
+
+        long[] masks = new long[16];
+        int[] counters = new int[16];
+        int depth = 0;
+        long mask = 1L;
+
+        while (true) {
+            if (mask == 0) {
+                reader.skipValue();
+            } else if ((mask & full) != 0) {
+                evaluate(reader.nextJsonElement(), mask, consumer);
+            } else {
+                switch (reader.peek()) {
+                    case BEGIN_OBJECT -> {
+                        reader.beginObject();
+                        counters[depth] = -1;
+                        masks[depth++] = mask;
+                    }
+
+                    case BEGIN_ARRAY -> {
+                        reader.beginArray();
+                        counters[depth] = 0;
+                        masks[depth++] = mask;
+                    }
+
+                    default -> reader.skipValue();
+                }
+
+                if (depth == masks.length) {
+                    masks = Arrays.copyOf(masks, depth * 2);
+                    counters = Arrays.copyOf(counters, depth * 2);
+                }
+            }
+
+            while (true) {
+                if (depth == 0) {
+                    return;
+                }
+
+                if (reader.hasNext()) {
+                    int counter = counters[depth - 1];
+
+                    if (counter < 0) {
+                        mask = transition(masks[depth - 1], reader.nextName());
+                    } else {
+                        counters[depth - 1] = counter + 1;
+                        mask = transition(masks[depth - 1], counter, -1);
+                    }
+
+                    break;
+                }
+
+                if (counters[--depth] < 0) {
+                    reader.endObject();
+                } else {
+                    reader.endArray();
+                }
+            }
+        }
+    }
+
+    private void evaluate(JsonElement root, long rootMask, Consumer<? super JsonElement> consumer) {
+        ArrayList<JsonElement> nodes = new ArrayList<>();
+        long[] masks = new long[16];
+
+        nodes.add(root);
+        masks[0] = rootMask;
+
+        while (!nodes.isEmpty()) {
+            int top = nodes.size() - 1;
+            JsonElement node = nodes.remove(top);
+            long mask = masks[top];
+
+            if ((mask & full) != 0) {
+                consumer.accept(node);
+            }
+
+            mask &= ~full;
+
+            if (mask == 0) {
+                continue;
+            }
+
+            int base = nodes.size();
+
+            if (node instanceof JsonObject object) {
+                for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                    long next = transition(mask, entry.getKey());
+
+                    if (next != 0) {
+                        masks = push(nodes, masks, entry.getValue(), next);
+                    }
+                }
+            } else if (node instanceof JsonArray array) {
+                int size = array.size();
+
+                for (int i = 0; i < size; i++) {
+                    long next = transition(mask, i, size);
+
+                    if (next != 0) {
+                        masks = push(nodes, masks, array.get(i), next);
+                    }
+                }
+            }
+
+            for (int i = base, j = nodes.size() - 1; i < j; i++, j--) {
+                nodes.set(i, nodes.set(j, nodes.get(i)));
+                long swap = masks[i];
+                masks[i] = masks[j];
+                masks[j] = swap;
+            }
+        }
+    }
+
+    private static long[] push(ArrayList<JsonElement> nodes, long[] masks, JsonElement node, long mask) {
+        if (nodes.size() == masks.length) {
+            masks = Arrays.copyOf(masks, masks.length * 2);
+        }
+
+        masks[nodes.size()] = mask;
+        nodes.add(node);
+        return masks;
+    }
+
+    private long transition(long mask, String name) {
+        long next = 0;
+
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int k = Long.numberOfTrailingZeros(bits);
+            Step step = steps[k];
+
+            if (step.descendant) {
+                next |= 1L << k;
+            }
+
+            if (step.matches(name)) {
+                next |= 1L << (k + 1);
+            }
+        }
+
+        return next;
+    }
+
+    private long transition(long mask, int index, int size) {
+        long next = 0;
+
+        for (long bits = mask; bits != 0; bits &= bits - 1) {
+            int k = Long.numberOfTrailingZeros(bits);
+            Step step = steps[k];
+
+            if (step.descendant) {
+                next |= 1L << k;
+            }
+
+            if (step.matches(index, size)) {
+                next |= 1L << (k + 1);
+            }
+        }
+
+        return next;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    static final class Step {
+        final int kind;
+        final String name;
+        final int index;
+        final boolean descendant;
+
+        Step(int kind, String name, int index, boolean descendant) {
+            this.kind = kind;
+            this.name = name;
+            this.index = index;
+            this.descendant = descendant;
+        }
+
+        boolean matches(String key) {
+            return switch (kind) {
+                case NAME, TOKEN -> name.equals(key);
+                case WILDCARD -> true;
+                default -> false;
+            };
+        }
+
+        boolean matches(int i, int size) {
+            return switch (kind) {
+                case INDEX -> index >= 0 ? i == index : size >= 0 && i == size + index;
+                case TOKEN -> i == index;
+                case WILDCARD -> true;
+                default -> false;
+            };
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package nl.radiantrealm.json;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class JsonPointer {
+    private final String pointer;
+    final String[] tokens;
+    final int[] indices;
+
+    private JsonPath path;
+
+    private JsonPointer(String pointer, String[] tokens) {
+        this.pointer = pointer;
+        this.tokens = tokens;
+        this.indices = new int[tokens.length];
+
+        for (int i = 0; i < tokens.length; i++) {
+            indices[i] = index(tokens[i]);
+        }
+    }
+
+    public static JsonPointer compile(String pointer) {
+        if (pointer.isEmpty()) {
+            return new JsonPointer(pointer, new String[0]);
+        }
+
+        if (pointer.charAt(0) != '/') {
+            throw new JsonException(String.format("Invalid Json pointer '%s'", pointer), 0);
+        }
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 1; i <= pointer.length(); i++) {
+            char c = i < pointer.length() ? pointer.charAt(i) : '/';
+
+            if (c == '/') {
+                tokens.add(builder.toString());
+                builder.setLength(0);
+            } else if (c == '~') {
+                char next = i + 1 < pointer.length() ? pointer.charAt(++i) : 0;
+
+                switch (next) {
+                    case '0' -> builder.append('~');
+                    case '1' -> builder.append('/');
+                    default -> throw new JsonException(String.format("Invalid Json pointer '%s'", pointer), i);
+                }
+            } else {
+                builder.append(c);
+            }
+        }
+
+        return new JsonPointer(pointer, tokens.toArray(new String[0]));
+    }
+
+    public static JsonPointer of(String... tokens) {
+        StringBuilder builder = new StringBuilder();
+
+        for (String token : tokens) {
+            builder.append('/');
+
+            for (int i = 0; i < token.length(); i++) {
+                char c = token.charAt(i);
+
+                switch (c) {
+                    case '~' -> builder.append("~0");
+                    case '/' -> builder.append("~1");
+                    default -> builder.append(c);
+                }
+            }
+        }
+
+        return new JsonPointer(builder.toString(), tokens.clone());
+    }
+
+    static int index(String token) {
+        int length = token.length();
+
+        if (length == 0 || length > 9 || (length > 1 && token.charAt(0) == '0')) {
+            return -1;
+        }
+
+        int value = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = token.charAt(i);
+
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+
+            value = value * 10 + (c - '0');
+        }
+
+        return value;
+    }
+
+    public JsonElement get(JsonElement root) {
+        JsonElement current = root;
+
+        for (int i = 0; i < tokens.length && current != null; i++) {
+            current = switch (current) {
+                case JsonObject object -> object.get(tokens[i]);
+                case JsonArray array -> indices[i] >= 0 && indices[i] < array.size() ? array.get(indices[i]) : null;
+                default -> null;
+            };
+        }
+
+        return current;
+    }
+
+    public JsonElement get(JsonReader reader) {
+        JsonPath compiled = path;
+
+        if (compiled == null) {
+            JsonPath.Step[] steps = new JsonPath.Step[tokens.length];
+
+            for (int i = 0; i < tokens.length; i++) {
+                steps[i] = new JsonPath.Step(JsonPath.TOKEN, tokens[i], indices[i], false);
+            }
+
+            compiled = path = new JsonPath(pointer, steps);
+        }
+
+        List<JsonElement> result = compiled.select(reader);
+        return result.isEmpty() ? null : result.getFirst();
+    }
+
+    public boolean has(JsonElement root) {
+        return get(root) != null;
+    }
+
+    public List<String> getTokens() {
+        return List.of(tokens);
+    }
+
+    public boolean isRoot() {
+        return tokens.length == 0;
+    }
+
+    @Override
+    public String toString() {
+        return pointer;
+    }
+}
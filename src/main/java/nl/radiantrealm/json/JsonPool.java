@@ -0,0 +1,62 @@
+package nl.radiantrealm.json;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+public final class JsonPool<T> {
+    private final AtomicReferenceArray<T> slots;
+    private final Supplier<T> factory;
+    private final int mask;
+
+    public JsonPool(Supplier<T> factory) {
+        this(Runtime.getRuntime().availableProcessors() * 4, factory);
+    }
+
+    public JsonPool(int capacity, Supplier<T> factory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.factory = Objects.requireNonNull(factory);
+        this.mask = slots.length() - 1;
+    }
+
+    public T acquire() {
+        int start = start();
+
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+
+            if (slots.getPlain(slot) != null) {
+                T instance = slots.getAndSet(slot, null);
+
+                if (instance != null) {
+                    return instance;
+                }
+            }
+        }
+
+        return factory.get();
+    }
+
+    public void release(T instance) {
+        Objects.requireNonNull(instance);
+        int start = start();
+
+        for (int i = 0; i <= mask; i++) {
+            int slot = (start + i) & mask;
+
+            if (slots.getPlain(slot) == null && slots.compareAndSet(slot, null, instance)) {
+                return;
+            }
+        }
+    }
+
+    private static int start() {
+        long id = Thread.currentThread().threadId();
+        return (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    }
+}
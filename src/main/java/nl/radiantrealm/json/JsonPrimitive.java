@@ -1,11 +1,12 @@
 package nl.radiantrealm.json;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.Objects;
 import java.util.UUID;
 
 public class JsonPrimitive extends JsonElement {
-    public final Object object;
+    Object object;
 
     public JsonPrimitive(Boolean bool) {
         this.object = Objects.requireNonNull(bool);
@@ -19,9 +20,37 @@ public class JsonPrimitive extends JsonElement {
         this.object = Objects.requireNonNull(string);
     }
 
+    JsonPrimitive() {
+        this.object = null;
+    }
+
+    public static JsonPrimitive of(long value) {
+        return new JsonLongPrimitive(value);
+    }
+
+    public static JsonPrimitive of(double value) {
+        return new JsonDoublePrimitive(value);
+    }
+
     @Override
     public JsonElement deepCopy() {
-        return null;
+        return this;
+    }
+
+    public Object getValue() {
+        return object;
+    }
+
+    public boolean isBoolean() {
+        return object instanceof Boolean;
+    }
+
+    public boolean isNumber() {
+        return object instanceof Number;
+    }
+
+    public boolean isString() {
+        return object instanceof String;
     }
 
     @Override
@@ -54,6 +83,21 @@ public class JsonPrimitive extends JsonElement {
         throw new IllegalStateException("Not a JSON Number.");
     }
 
+    @Override
+    public long getAsLong() {
+        return getAsNumber().longValue();
+    }
+
+    @Override
+    public int getAsInt() {
+        return getAsNumber().intValue();
+    }
+
+    @Override
+    public double getAsDouble() {
+        return getAsNumber().doubleValue();
+    }
+
     @Override
     public String getAsString() {
         return switch (object) {
@@ -84,10 +128,125 @@ public class JsonPrimitive extends JsonElement {
 
     @Override
     public BigDecimal getAsBigDecimal() {
-        if (object instanceof BigDecimal decimal) {
-            return decimal;
+        return switch (object) {
+            case BigDecimal decimal -> decimal;
+            case BigInteger integer -> new BigDecimal(integer);
+            case Long number -> BigDecimal.valueOf(number);
+            case Integer number -> BigDecimal.valueOf(number);
+            case Double number -> BigDecimal.valueOf(number);
+            default -> throw new IllegalStateException("Not a JSON Number with instance of BigDecimal.");
+        };
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        return object == this || object instanceof JsonPrimitive primitive && equivalent(this, primitive);
+    }
+
+    @Override
+    public int hashCode() {
+        return switch (getValue()) {
+            case Number number -> hash(number);
+            case Object value -> value.hashCode();
+        };
+    }
+
+    static int hash(Number number) {
+        return switch (number) {
+            case Long value -> Long.hashCode(value);
+            case Integer value -> Long.hashCode(value);
+            case Short value -> Long.hashCode(value);
+            case Byte value -> Long.hashCode(value);
+
+            default -> {
+                double value = number.doubleValue();
+
+                if ((number instanceof Double || number instanceof Float) && !Double.isFinite(value)) {
+                    yield Double.hashCode(value);
+                }
+
+                if ((number instanceof Double || number instanceof Float) && value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+                    yield Long.hashCode((long) value);
+                }
+
+                BigDecimal decimal = decimal(number).stripTrailingZeros();
+
+                if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() <= 19) {
+                    try {
+                        yield Long.hashCode(decimal.longValueExact());
+                    } catch (ArithmeticException ignored) {
+                    }
+                }
+
+                yield decimal.hashCode();
+            }
+        };
+    }
+
+    static String canonical(Number number) {
+        return switch (number) {
+            case Long value -> Long.toString(value);
+            case Integer value -> Long.toString(value);
+            case Short value -> Long.toString(value);
+            case Byte value -> Long.toString(value);
+
+            default -> {
+                double value = number.doubleValue();
+
+                if ((number instanceof Double || number instanceof Float) && value == Math.rint(value) && Math.abs(value) < 0x1p63) {
+                    yield Long.toString((long) value);
+                }
+
+                BigDecimal decimal = decimal(number).stripTrailingZeros();
+
+                if (decimal.scale() <= 0 && decimal.precision() - decimal.scale() <= 19) {
+                    try {
+                        yield Long.toString(decimal.longValueExact());
+                    } catch (ArithmeticException ignored) {
+                    }
+                }
+
+                yield decimal.toString();
+            }
+        };
+    }
+
+    static boolean equivalent(JsonPrimitive left, JsonPrimitive right) {
+        if (left instanceof JsonLongPrimitive a && right instanceof JsonLongPrimitive b) {
+            return a.value == b.value;
         }
 
-        throw new IllegalStateException("Not a JSON Number with instance of BigDecimal.");
+        if (left instanceof JsonDoublePrimitive a && right instanceof JsonDoublePrimitive b) {
+            return a.value == b.value;
+        }
+
+        Object a = left.getValue();
+        Object b = right.getValue();
+
+        if (a instanceof Number x && b instanceof Number y) {
+            if (!finite(x) || !finite(y)) {
+                return x.doubleValue() == y.doubleValue();
+            }
+
+            return decimal(x).compareTo(decimal(y)) == 0;
+        }
+
+        return a.equals(b);
+    }
+
+    private static boolean finite(Number number) {
+        return !(number instanceof Double || number instanceof Float) || Double.isFinite(number.doubleValue());
+    }
+
+    static BigDecimal decimal(Number number) {
+        return switch (number) {
+            case BigDecimal decimal -> decimal;
+            case BigInteger integer -> new BigDecimal(integer);
+            case Long value -> BigDecimal.valueOf(value);
+            case Integer value -> BigDecimal.valueOf(value);
+            case Short value -> BigDecimal.valueOf(value);
+            case Byte value -> BigDecimal.valueOf(value);
+            default -> new BigDecimal(number.toString());
+        };
     }
 }
@@ -0,0 +1,573 @@
+package nl.radiantrealm.json;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class JsonPushParser {
+    private static final int VALUE = 0;
+    private static final int FIRST_VALUE = 1;
+    private static final int FIRST_NAME = 2;
+    private static final int NAME = 3;
+    private static final int COLON = 4;
+    private static final int SEPARATOR = 5;
+
+    private static final int NONE = 0;
+    private static final int STRING = 1;
+    private static final int ESCAPE = 2;
+    private static final int UNICODE = 3;
+    private static final int NUMBER = 4;
+    private static final int LITERAL = 5;
+
+    private final Handler handler;
+    private final Consumer<? super JsonElement> consumer;
+
+    private boolean[] objects = new boolean[16];
+    private int[] members = new int[16];
+    private JsonElement[] elements;
+    private int depth;
+
+    private int syntax = VALUE;
+    private int token = NONE;
+    private long position;
+    private long tokenStart;
+    private boolean started;
+
+    private byte[] scratch = new byte[64];
+    private int scratchLength;
+    private boolean key;
+    private int unicode;
+    private int unicodeDigits;
+    private char highSurrogate;
+
+    private String literal;
+    private int literalIndex;
+
+    private final StringBuilder number = new StringBuilder();
+    private final JsonStringLexer numbers = new JsonStringLexer("");
+
+    private String string;
+    private String name;
+    private boolean bool;
+    private JsonSymbolTable symbols = JsonSymbolTable.SHARED;
+    private JsonLimits limits = JsonLimits.DEFAULT;
+
+    private byte[] chunk;
+
+    public JsonPushParser(Handler handler) {
+        this.handler = Objects.requireNonNull(handler);
+        this.consumer = null;
+    }
+
+    public JsonPushParser(Consumer<? super JsonElement> consumer) {
+        this.handler = null;
+        this.consumer = Objects.requireNonNull(consumer);
+        this.elements = new JsonElement[16];
+    }
+
+    public JsonPushParser setSymbolTable(JsonSymbolTable symbols) {
+        this.symbols = symbols;
+        return this;
+    }
+
+    public JsonPushParser setLimits(JsonLimits limits) {
+        this.limits = Objects.requireNonNull(limits);
+        return this;
+    }
+
+    public JsonPushParser feed(ByteBuffer input) {
+        if (input.hasArray()) {
+            feed(input.array(), input.arrayOffset() + input.position(), input.remaining());
+            input.position(input.limit());
+            return this;
+        }
+
+        if (chunk == null) {
+            chunk = new byte[8192];
+        }
+
+        while (input.hasRemaining()) {
+            int length = Math.min(input.remaining(), chunk.length);
+            input.get(chunk, 0, length);
+            feed(chunk, 0, length);
+        }
+
+        return this;
+    }
+
+    public JsonPushParser feed(byte[] input) {
+        return feed(input, 0, input.length);
+    }
+
+    public JsonPushParser feed(byte[] input, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, input.length);
+
+        if (position + length > limits.maxDocumentLength()) {
+            throw JsonLimits.exceeded("Document length", limits.maxDocumentLength(), Math.max(position, limits.maxDocumentLength()));
+        }
+
+        long base = position - offset;
+        int end = offset + length;
+        int i = offset;
+
+        while (i < end) {
+            switch (token) {
+                case STRING -> i = string(input, i, end, base);
+                case ESCAPE -> escape(input[i++], base + i - 1);
+                case UNICODE -> unicode(input[i++], base + i - 1);
+                case NUMBER -> i = number(input, i, end);
+                case LITERAL -> literal(input[i++], base + i - 1);
+
+                default -> {
+                    byte b = input[i++];
+
+                    if (!JsonLexer.isWhitespace(b)) {
+                        structural(b, base + i - 1);
+                    }
+                }
+            }
+        }
+
+        position += length;
+        return this;
+    }
+
+    public void endOfInput() {
+        if (token == NUMBER) {
+            finishNumber();
+        }
+
+        if (token != NONE || depth > 0 || syntax != VALUE || !started) {
+            throw new JsonException("Unexpected end of Json input", position);
+        }
+
+        if (handler != null) {
+            handler.handle(this, JsonToken.END_DOCUMENT);
+        }
+    }
+
+    public JsonPushParser reset() {
+        if (elements != null) {
+            Arrays.fill(elements, 0, depth, null);
+        }
+
+        depth = 0;
+        syntax = VALUE;
+        token = NONE;
+        position = 0;
+        started = false;
+        highSurrogate = 0;
+        name = null;
+        return this;
+    }
+
+    public String getString() {
+        return string;
+    }
+
+    public boolean getBoolean() {
+        return bool;
+    }
+
+    public Number getNumber() {
+        return numbers.numberValue();
+    }
+
+    public JsonPrimitive getJsonPrimitive() {
+        return numbers.numberPrimitive();
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    private void structural(byte b, long at) {
+        switch (syntax) {
+            case COLON -> {
+                if (b != ':') {
+                    throw unexpected(b, at);
+                }
+
+                syntax = VALUE;
+            }
+
+            case SEPARATOR -> {
+                if (b == ',') {
+                    syntax = objects[depth - 1] ? NAME : VALUE;
+                } else if (b == (objects[depth - 1] ? '}' : ']')) {
+                    end();
+                } else {
+                    throw unexpected(b, at);
+                }
+            }
+
+            case FIRST_NAME, NAME -> {
+                if (b == '"') {
+                    if (++members[depth - 1] > limits.maxObjectMembers()) {
+                        throw JsonLimits.exceeded("Object member count", limits.maxObjectMembers(), at);
+                    }
+
+                    beginString(true, at);
+                } else if (b == '}' && syntax == FIRST_NAME) {
+                    end();
+                } else {
+                    throw unexpected(b, at);
+                }
+            }
+
+            default -> {
+                if (b == ']' && syntax == FIRST_VALUE) {
+                    end();
+                } else {
+                    value(b, at);
+                }
+            }
+        }
+    }
+
+    private void value(byte b, long at) {
+        started = true;
+
+        switch (b) {
+            case '{' -> begin(true, at);
+            case '[' -> begin(false, at);
+            case '"' -> beginString(false, at);
+            case 't' -> beginLiteral("true", at);
+            case 'f' -> beginLiteral("false", at);
+            case 'n' -> beginLiteral("null", at);
+
+            case '-', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> {
+                number.setLength(0);
+                number.append((char) b);
+                tokenStart = at;
+                token = NUMBER;
+            }
+
+            default -> throw unexpected(b, at);
+        }
+    }
+
+    private void begin(boolean object, long at) {
+        if (depth >= limits.maxDepth()) {
+            throw JsonLimits.exceeded("Nesting depth", limits.maxDepth(), at);
+        }
+
+        if (depth == objects.length) {
+            objects = Arrays.copyOf(objects, depth * 2);
+            members = Arrays.copyOf(members, depth * 2);
+
+            if (elements != null) {
+                elements = Arrays.copyOf(elements, depth * 2);
+            }
+        }
+
+        if (handler != null) {
+            objects[depth++] = object;
+            handler.handle(this, object ? JsonToken.BEGIN_OBJECT : JsonToken.BEGIN_ARRAY);
+        } else {
+            JsonElement element = object ? new JsonObject() : new JsonArray();
+
+            if (depth > 0) {
+                attach(element);
+            }
+
+            elements[depth] = element;
+            objects[depth++] = object;
+        }
+
+        members[depth - 1] = 0;
+        syntax = object ? FIRST_NAME : FIRST_VALUE;
+    }
+
+    private void end() {
+        boolean object = objects[--depth];
+
+        if (handler != null) {
+            handler.handle(this, object ? JsonToken.END_OBJECT : JsonToken.END_ARRAY);
+        } else {
+            JsonElement element = elements[depth];
+            elements[depth] = null;
+
+            if (depth == 0) {
+                consumer.accept(element);
+            }
+        }
+
+        syntax = depth == 0 ? VALUE : SEPARATOR;
+    }
+
+    private void scalar(JsonToken kind, JsonElement element) {
+        if (handler != null) {
+            handler.handle(this, kind);
+        } else if (depth == 0) {
+            consumer.accept(element);
+        } else {
+            attach(element);
+        }
+
+        syntax = depth == 0 ? VALUE : SEPARATOR;
+    }
+
+    private void attach(JsonElement element) {
+        switch (elements[depth - 1]) {
+            case JsonObject object -> object.add(name, element);
+            case JsonArray array -> array.add(element);
+            default -> throw new IllegalStateException();
+        }
+    }
+
+    private void beginString(boolean key, long at) {
+        this.key = key;
+        scratchLength = 0;
+        tokenStart = at;
+        token = STRING;
+    }
+
+    private int string(byte[] input, int i, int end, long base) {
+        if (highSurrogate != 0 && input[i] != '\\') {
+            throw unpairedSurrogate(base + i);
+        }
+
+        int start = i;
+
+        while (i < end) {
+            byte b = input[i];
+
+            if (b == '"') {
+                append(input, start, i - start, base + i);
+                finishString();
+                return i + 1;
+            }
+
+            if (b == '\\') {
+                append(input, start, i - start, base + i);
+                token = ESCAPE;
+                return i + 1;
+            }
+
+            if (b >= 0 && b < 0x20) {
+                throw unexpected(b, base + i);
+            }
+
+            i++;
+        }
+
+        append(input, start, end - start, base + end);
+        return end;
+    }
+
+    private void escape(byte b, long at) {
+        if (highSurrogate != 0 && b != 'u') {
+            throw unpairedSurrogate(at);
+        }
+
+        token = STRING;
+
+        switch (b) {
+            case '"', '\\', '/' -> append(b);
+            case 'b' -> append((byte) '\b');
+            case 'n' -> append((byte) '\n');
+            case 'r' -> append((byte) '\r');
+            case 't' -> append((byte) '\t');
+            case 'f' -> append((byte) '\f');
+
+            case 'u' -> {
+                unicode = 0;
+                unicodeDigits = 0;
+                token = UNICODE;
+            }
+
+            default -> throw unexpected(b, at);
+        }
+    }
+
+    private void unicode(byte b, long at) {
+        int digit = JsonLexer.hexDigit((char) b);
+
+        if (digit < 0) {
+            throw unexpected(b, at);
+        }
+
+        unicode = (unicode << 4) | digit;
+
+        if (++unicodeDigits < 4) {
+            return;
+        }
+
+        char c = (char) unicode;
+        token = STRING;
+
+        if (highSurrogate != 0) {
+            if (!Character.isLowSurrogate(c)) {
+                throw unpairedSurrogate(at);
+            }
+
+            appendCodePoint(Character.toCodePoint(highSurrogate, c));
+            highSurrogate = 0;
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            throw unpairedSurrogate(at);
+        } else {
+            appendCodePoint(c);
+        }
+    }
+
+    private void finishString() {
+        token = NONE;
+
+        if (key) {
+            JsonSymbolTable table = symbols;
+
+            if (table != null && scratchLength <= JsonSymbolTable.MAX_LENGTH) {
+                int hash = 0;
+
+                for (int i = 0; i < scratchLength; i++) {
+                    hash = 31 * hash + scratch[i];
+                }
+
+                string = table.lookup(scratch, 0, scratchLength, hash);
+            } else {
+                string = new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+            }
+
+            name = string;
+
+            if (handler != null) {
+                handler.handle(this, JsonToken.NAME);
+            }
+
+            syntax = COLON;
+        } else {
+            string = new String(scratch, 0, scratchLength, StandardCharsets.UTF_8);
+            scalar(JsonToken.STRING, handler == null ? new JsonPrimitive(string) : null);
+        }
+    }
+
+    private int number(byte[] input, int i, int end) {
+        while (i < end) {
+            byte b = input[i];
+
+            switch (b) {
+                case '1', '2', '3', '4', '5', '6', '7', '8', '9', '0', '.', 'e', 'E', '+', '-' -> {
+                    if (number.length() == limits.maxNumberLength()) {
+                        throw JsonLimits.exceeded("Number length", limits.maxNumberLength(), tokenStart);
+                    }
+
+                    number.append((char) b);
+                    i++;
+                }
+
+                default -> {
+                    finishNumber();
+                    return i;
+                }
+            }
+        }
+
+        return end;
+    }
+
+    private void finishNumber() {
+        token = NONE;
+        numbers.reset(number.toString());
+
+        try {
+            numbers.readNumber(numbers.read());
+
+            if (numbers.peek() >= 0) {
+                throw new JsonException();
+            }
+        } catch (JsonException e) {
+            throw new JsonException(String.format("Invalid number '%s'", number), tokenStart);
+        }
+
+        scalar(JsonToken.NUMBER, handler == null ? numbers.numberPrimitive() : null);
+    }
+
+    private void beginLiteral(String literal, long at) {
+        this.literal = literal;
+        this.literalIndex = 1;
+        tokenStart = at;
+        token = LITERAL;
+    }
+
+    private void literal(byte b, long at) {
+        if (b != literal.charAt(literalIndex++)) {
+            throw unexpected(b, at);
+        }
+
+        if (literalIndex < literal.length()) {
+            return;
+        }
+
+        token = NONE;
+
+        switch (literal) {
+            case "null" -> scalar(JsonToken.NULL, JsonNull.INSTANCE);
+
+            default -> {
+                bool = literal.equals("true");
+                scalar(JsonToken.BOOLEAN, handler == null ? new JsonPrimitive(bool) : null);
+            }
+        }
+    }
+
+    private void append(byte b) {
+        if (scratchLength == scratch.length) {
+            scratch = Arrays.copyOf(scratch, scratchLength * 2);
+        }
+
+        scratch[scratchLength++] = b;
+    }
+
+    private void append(byte[] input, int offset, int length, long at) {
+        if ((long) scratchLength + length > limits.maxStringLength()) {
+            throw JsonLimits.exceeded("String length", limits.maxStringLength(), at);
+        }
+
+        if (scratchLength + length > scratch.length) {
+            scratch = Arrays.copyOf(scratch, Math.max(scratchLength + length, scratch.length * 2));
+        }
+
+        System.arraycopy(input, offset, scratch, scratchLength, length);
+        scratchLength += length;
+    }
+
+    private void appendCodePoint(int code) {
+        if (code < 0x80) {
+            append((byte) code);
+        } else if (code < 0x800) {
+            append((byte) (0xC0 | (code >>> 6)));
+            append((byte) (0x80 | (code & 0x3F)));
+        } else if (code < 0x10000) {
+            append((byte) (0xE0 | (code >>> 12)));
+            append((byte) (0x80 | ((code >>> 6) & 0x3F)));
+            append((byte) (0x80 | (code & 0x3F)));
+        } else {
+            append((byte) (0xF0 | (code >>> 18)));
+            append((byte) (0x80 | ((code >>> 12) & 0x3F)));
+            append((byte) (0x80 | ((code >>> 6) & 0x3F)));
+            append((byte) (0x80 | (code & 0x3F)));
+        }
+    }
+
+    private static JsonException unexpected(byte b, long at) {
+        return new JsonException(String.format("Unexpected character '%s'", (char) (b & 0xFF)), at);
+    }
+
+    private static JsonException unpairedSurrogate(long at) {
+        return new JsonException("Unpaired surrogate escape", at);
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        void handle(JsonPushParser parser, JsonToken token);
+    }
+}
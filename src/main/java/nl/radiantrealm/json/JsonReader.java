@@ -0,0 +1,484 @@
+package nl.radiantrealm.json;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Objects;
+
+public class JsonReader implements Closeable {
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private final JsonLexer lexer;
+    private final Closeable closeable;
+
+    private int[] scopes = new int[32];
+    private int[] members = new int[32];
+    private int depth;
+
+    private JsonToken peeked;
+    private char peekedChar;
+
+    private String currentString;
+    private boolean currentBoolean;
+
+    public JsonReader(String input) {
+        this(new JsonStringLexer(input), null);
+    }
+
+    public JsonReader(byte[] input) {
+        this(input, 0, input.length);
+    }
+
+    public JsonReader(byte[] input, int offset, int length) {
+        this(new JsonByteLexer(input, offset, length), null);
+    }
+
+    public JsonReader(ByteBuffer input) {
+        this(new JsonByteLexer(input), null);
+    }
+
+    public JsonReader(InputStream input) {
+        this(new JsonByteLexer(input), input);
+    }
+
+    public JsonReader(Path input) throws IOException {
+        this(new JsonByteLexer(input), null);
+    }
+
+    public JsonReader(JsonStructuralIndex index) {
+        this(new JsonIndexedLexer(index), null);
+    }
+
+    JsonReader(JsonLexer lexer, Closeable closeable) {
+        this.lexer = lexer;
+        this.closeable = closeable;
+        scopes[depth++] = EMPTY_DOCUMENT;
+    }
+
+    public JsonReader setSymbolTable(JsonSymbolTable symbols) {
+        lexer.symbols = symbols;
+        return this;
+    }
+
+    public JsonReader setLimits(JsonLimits limits) {
+        lexer.limits = Objects.requireNonNull(limits);
+        return this;
+    }
+
+    public JsonToken peek() {
+        if (peeked == null) {
+            peeked = doPeek();
+        }
+
+        return peeked;
+    }
+
+    private JsonToken doPeek() {
+        int scope = scopes[depth - 1];
+        char c;
+
+        switch (scope) {
+            case EMPTY_DOCUMENT -> {
+                lexer.checkDocumentLength();
+                scopes[depth - 1] = NONEMPTY_DOCUMENT;
+                return valueToken(lexer.next());
+            }
+
+            case NONEMPTY_DOCUMENT -> {
+                if (lexer.atEnd()) {
+                    return JsonToken.END_DOCUMENT;
+                }
+
+                throw lexer.unexpected(lexer.next());
+            }
+
+            case EMPTY_ARRAY, NONEMPTY_ARRAY -> {
+                c = lexer.next();
+
+                if (c == ']') {
+                    return JsonToken.END_ARRAY;
+                }
+
+                if (scope == NONEMPTY_ARRAY) {
+                    if (c != ',') {
+                        throw lexer.unexpected(c);
+                    }
+
+                    c = lexer.next();
+                }
+
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                return valueToken(c);
+            }
+
+            case EMPTY_OBJECT, NONEMPTY_OBJECT -> {
+                c = lexer.next();
+
+                if (c == '}') {
+                    return JsonToken.END_OBJECT;
+                }
+
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw lexer.unexpected(c);
+                    }
+
+                    c = lexer.next();
+                }
+
+                if (c != '"') {
+                    throw lexer.unexpected(c);
+                }
+
+                if (++members[depth - 1] > lexer.limits.maxObjectMembers()) {
+                    throw JsonLimits.exceeded("Object member count", lexer.limits.maxObjectMembers(), lexer.position());
+                }
+
+                scopes[depth - 1] = DANGLING_NAME;
+                return JsonToken.NAME;
+            }
+
+            case DANGLING_NAME -> {
+                c = lexer.next();
+
+                if (c != ':') {
+                    throw lexer.unexpected(c);
+                }
+
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                return valueToken(lexer.next());
+            }
+
+            default -> throw new IllegalStateException();
+        }
+    }
+
+    private JsonToken valueToken(char c) {
+        peekedChar = c;
+
+        return switch (c) {
+            case '{' -> JsonToken.BEGIN_OBJECT;
+            case '[' -> JsonToken.BEGIN_ARRAY;
+            case '"' -> JsonToken.STRING;
+            case 't', 'f' -> JsonToken.BOOLEAN;
+            case 'n' -> JsonToken.NULL;
+            case '-', '1', '2', '3', '4', '5', '6', '7', '8', '9', '0' -> JsonToken.NUMBER;
+            default -> throw lexer.unexpected(c);
+        };
+    }
+
+    public JsonToken nextToken() {
+        JsonToken token = peek();
+
+        switch (token) {
+            case BEGIN_OBJECT -> beginObject();
+            case END_OBJECT -> endObject();
+            case BEGIN_ARRAY -> beginArray();
+            case END_ARRAY -> endArray();
+            case NAME -> currentString = nextName();
+            case STRING, NUMBER -> currentString = nextString();
+            case BOOLEAN -> currentBoolean = nextBoolean();
+            case NULL -> nextNull();
+            case END_DOCUMENT -> {
+            }
+        }
+
+        return token;
+    }
+
+    public String getString() {
+        return currentString;
+    }
+
+    public boolean getBoolean() {
+        return currentBoolean;
+    }
+
+    public boolean hasNext() {
+        JsonToken token = peek();
+        return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+    }
+
+    public void beginObject() {
+        consume(JsonToken.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    public void endObject() {
+        consume(JsonToken.END_OBJECT);
+        depth--;
+    }
+
+    public void beginArray() {
+        consume(JsonToken.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    public void endArray() {
+        consume(JsonToken.END_ARRAY);
+        depth--;
+    }
+
+    public String nextName() {
+        consume(JsonToken.NAME);
+        return lexer.readKey();
+    }
+
+    public String nextString() {
+        JsonToken token = peek();
+
+        return switch (token) {
+            case STRING -> {
+                peeked = null;
+                yield lexer.readString();
+            }
+
+            case NUMBER -> {
+                peeked = null;
+                lexer.readNumber(peekedChar);
+                yield lexer.numberText.toString();
+            }
+
+            default -> throw unexpectedToken(JsonToken.STRING, token);
+        };
+    }
+
+    public boolean nextBoolean() {
+        consume(JsonToken.BOOLEAN);
+        boolean state = peekedChar == 't';
+        lexer.expect(state ? "rue" : "alse");
+        return state;
+    }
+
+    public void nextNull() {
+        consume(JsonToken.NULL);
+        lexer.expect("ull");
+    }
+
+    public Number nextNumber() {
+        readNumber();
+        return lexer.numberValue();
+    }
+
+    public long nextLong() {
+        int type = readNumber();
+
+        if (type == JsonLexer.NUMBER_LONG) {
+            return lexer.longValue;
+        }
+
+        if (type == JsonLexer.NUMBER_DOUBLE && lexer.doubleValue == (long) lexer.doubleValue) {
+            return (long) lexer.doubleValue;
+        }
+
+        String number = lexer.numberText.toString();
+
+        try {
+            return new BigDecimal(number).longValueExact();
+        } catch (ArithmeticException e) {
+            throw invalidNumber(number);
+        }
+    }
+
+    public int nextInt() {
+        long value = nextLong();
+
+        if (value != (int) value) {
+            throw new JsonException(String.format("Number %s out of int range at position %s", value, lexer.position()));
+        }
+
+        return (int) value;
+    }
+
+    public double nextDouble() {
+        return switch (readNumber()) {
+            case JsonLexer.NUMBER_LONG -> lexer.longValue;
+            case JsonLexer.NUMBER_DOUBLE -> lexer.doubleValue;
+            default -> Double.parseDouble(lexer.numberText.toString());
+        };
+    }
+
+    private int readNumber() {
+        consume(JsonToken.NUMBER);
+        return lexer.readNumber(peekedChar);
+    }
+
+    public JsonElement nextJsonElement() {
+        ArrayDeque<JsonElement> stack = new ArrayDeque<>();
+        JsonElement root = null;
+
+        do {
+            JsonToken token = peek();
+            String name = null;
+
+            if (token == JsonToken.NAME) {
+                name = nextName();
+                token = peek();
+            }
+
+            JsonElement element = switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    yield new JsonObject();
+                }
+
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    yield new JsonArray();
+                }
+
+                case STRING -> new JsonPrimitive(nextString());
+
+                case NUMBER -> {
+                    readNumber();
+                    yield lexer.numberPrimitive();
+                }
+
+                case BOOLEAN -> new JsonPrimitive(nextBoolean());
+
+                case NULL -> {
+                    nextNull();
+                    yield JsonNull.INSTANCE;
+                }
+
+                case END_OBJECT, END_ARRAY -> {
+                    if (stack.isEmpty()) {
+                        throw new JsonException(String.format("Expected a value but was %s at position %s", token, lexer.position()));
+                    }
+
+                    if (token == JsonToken.END_OBJECT) {
+                        endObject();
+                    } else {
+                        endArray();
+                    }
+
+                    stack.pop();
+                    yield null;
+                }
+
+                default -> throw new JsonException("Unexpected end of Json document.");
+            };
+
+            if (element != null) {
+                switch (stack.peek()) {
+                    case null -> root = element;
+                    case JsonObject object -> object.add(name, element);
+                    case JsonArray array -> array.add(element);
+                    default -> throw new IllegalStateException();
+                }
+
+                if (element instanceof JsonObject || element instanceof JsonArray) {
+                    stack.push(element);
+                }
+            }
+        } while (!stack.isEmpty());
+
+        return root;
+    }
+
+    public void skipValue() {
+        int count = 0;
+
+        while (true) {
+            JsonToken token = peek();
+
+            switch (token) {
+                case BEGIN_OBJECT -> {
+                    beginObject();
+                    count++;
+                }
+
+                case BEGIN_ARRAY -> {
+                    beginArray();
+                    count++;
+                }
+
+                case END_OBJECT, END_ARRAY -> {
+                    if (count == 0) {
+                        throw new JsonException(String.format("Expected a value but was %s at position %s", token, lexer.position()));
+                    }
+
+                    peeked = null;
+                    depth--;
+                    count--;
+                }
+
+                case NAME, STRING -> {
+                    peeked = null;
+                    lexer.skipString();
+                }
+
+                case NUMBER -> {
+                    peeked = null;
+                    lexer.skipNumber();
+                }
+
+                case BOOLEAN -> nextBoolean();
+                case NULL -> nextNull();
+                case END_DOCUMENT -> throw new JsonException("Unexpected end of Json document.");
+            }
+
+            if (count == 0 && token != JsonToken.NAME) {
+                return;
+            }
+        }
+    }
+
+    public int getDepth() {
+        return depth - 1;
+    }
+
+    public long getPosition() {
+        return lexer.position();
+    }
+
+    private void consume(JsonToken expected) {
+        JsonToken token = peek();
+
+        if (token != expected) {
+            throw unexpectedToken(expected, token);
+        }
+
+        peeked = null;
+    }
+
+    private void push(int scope) {
+        if (depth > lexer.limits.maxDepth()) {
+            throw JsonLimits.exceeded("Nesting depth", lexer.limits.maxDepth(), lexer.position());
+        }
+
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+            members = Arrays.copyOf(members, depth * 2);
+        }
+
+        members[depth] = 0;
+        scopes[depth++] = scope;
+    }
+
+    private JsonException unexpectedToken(JsonToken expected, JsonToken actual) {
+        return new JsonException(String.format("Expected %s but was %s at position %s", expected, actual, lexer.position()));
+    }
+
+    private JsonException invalidNumber(String number) {
+        return new JsonException(String.format("Invalid number '%s' at position %s", number, lexer.position()));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closeable != null) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,556 @@
+package nl.radiantrealm.json;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+public final class JsonSchema {
+    private static final String[] TYPES = {"object", "array", "string", "integer", "number", "boolean", "null"};
+
+    private static final int OBJECT = 1;
+    private static final int ARRAY = 1 << 1;
+    private static final int STRING = 1 << 2;
+    private static final int INTEGER = 1 << 3;
+    private static final int NUMBER = 1 << 4;
+    private static final int BOOLEAN = 1 << 5;
+    private static final int NULL = 1 << 6;
+
+    private static final Set<String> UNSUPPORTED = Set.of(
+            "$ref", "$dynamicRef", "$recursiveRef", "allOf", "anyOf", "oneOf", "not", "if", "then", "else",
+            "dependentSchemas", "dependentRequired", "dependencies", "patternProperties", "propertyNames",
+            "unevaluatedProperties", "unevaluatedItems", "prefixItems", "additionalItems", "contains", "minContains", "maxContains"
+    );
+
+    private final Node root;
+
+    private JsonSchema(Node root) {
+        this.root = root;
+    }
+
+    public static JsonSchema compile(String schema) {
+        return compile(new JsonParser(schema).getJsonElement());
+    }
+
+    public static JsonSchema compile(JsonElement schema) {
+        return new JsonSchema(node(schema));
+    }
+
+    private static Node node(JsonElement schema) {
+        Node node = new Node();
+
+        if (schema instanceof JsonPrimitive primitive && primitive.isBoolean()) {
+            node.reject = !primitive.getAsBoolean();
+            return node;
+        }
+
+        if (!(schema instanceof JsonObject object)) {
+            throw new JsonException("Json Schema must be a Json Object or boolean.");
+        }
+
+        for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+            String keyword = entry.getKey();
+            JsonElement value = entry.getValue();
+
+            if (UNSUPPORTED.contains(keyword)) {
+                throw new JsonException(String.format("Unsupported Json Schema keyword '%s'.", keyword));
+            }
+
+            switch (keyword) {
+                case "type" -> {
+                    if (value instanceof JsonArray array) {
+                        for (JsonElement type : array) {
+                            node.types |= type(string(keyword, type));
+                        }
+                    } else {
+                        node.types = type(string(keyword, value));
+                    }
+                }
+
+                case "properties" -> {
+                    if (!(value instanceof JsonObject properties)) {
+                        throw invalid(keyword, "a Json Object");
+                    }
+
+                    node.properties = new HashMap<>();
+
+                    for (Map.Entry<String, JsonElement> property : properties.entrySet()) {
+                        node.properties.put(property.getKey(), node(property.getValue()));
+                    }
+                }
+
+                case "required" -> {
+                    node.required = new HashMap<>();
+
+                    for (JsonElement name : array(keyword, value)) {
+                        node.required.putIfAbsent(string(keyword, name), node.required.size());
+                    }
+                }
+
+                case "additionalProperties" -> {
+                    if (value instanceof JsonPrimitive primitive && primitive.isBoolean()) {
+                        node.closed = !primitive.getAsBoolean();
+                    } else {
+                        node.additional = node(value);
+                    }
+                }
+
+                case "items" -> node.items = node(value);
+                case "enum" -> node.values = new HashSet<>(array(keyword, value).asList());
+                case "const" -> node.values = Set.of(value);
+                case "minimum" -> node.minimum = number(keyword, value);
+                case "maximum" -> node.maximum = number(keyword, value);
+                case "exclusiveMinimum" -> node.exclusiveMinimum = number(keyword, value);
+                case "exclusiveMaximum" -> node.exclusiveMaximum = number(keyword, value);
+
+                case "multipleOf" -> {
+                    node.multipleOf = number(keyword, value);
+
+                    if (node.multipleOf.signum() <= 0) {
+                        throw invalid(keyword, "greater than 0");
+                    }
+                }
+
+                case "minLength" -> node.minLength = count(keyword, value);
+                case "maxLength" -> node.maxLength = count(keyword, value);
+                case "minItems" -> node.minItems = count(keyword, value);
+                case "maxItems" -> node.maxItems = count(keyword, value);
+                case "uniqueItems" -> node.unique = bool(keyword, value);
+                case "minProperties" -> node.minProperties = count(keyword, value);
+                case "maxProperties" -> node.maxProperties = count(keyword, value);
+
+                case "pattern" -> {
+                    try {
+                        node.pattern = Pattern.compile(string(keyword, value));
+                    } catch (PatternSyntaxException e) {
+                        throw new JsonException(String.format("Json Schema keyword '%s' is not a valid pattern: %s.", keyword, e.getDescription()), e);
+                    }
+                }
+
+                default -> {
+                }
+            }
+        }
+
+        return node;
+    }
+
+    private static String string(String keyword, JsonElement value) {
+        if (value instanceof JsonPrimitive primitive && primitive.isString()) {
+            return primitive.getAsString();
+        }
+
+        throw invalid(keyword, "a string");
+    }
+
+    private static boolean bool(String keyword, JsonElement value) {
+        if (value instanceof JsonPrimitive primitive && primitive.isBoolean()) {
+            return primitive.getAsBoolean();
+        }
+
+        throw invalid(keyword, "a boolean");
+    }
+
+    private static JsonArray array(String keyword, JsonElement value) {
+        if (value instanceof JsonArray array) {
+            return array;
+        }
+
+        throw invalid(keyword, "a Json Array");
+    }
+
+    private static BigDecimal number(String keyword, JsonElement value) {
+        if (value instanceof JsonPrimitive primitive && primitive.isNumber() && finite(primitive.getAsNumber())) {
+            return JsonPrimitive.decimal(primitive.getAsNumber());
+        }
+
+        throw invalid(keyword, "a number");
+    }
+
+    private static int count(String keyword, JsonElement value) {
+        BigDecimal number = value instanceof JsonPrimitive primitive && primitive.isNumber() && finite(primitive.getAsNumber()) ? JsonPrimitive.decimal(primitive.getAsNumber()) : null;
+
+        if (number == null || number.signum() < 0 || number.stripTrailingZeros().scale() > 0) {
+            throw invalid(keyword, "a non-negative integer");
+        }
+
+        return number.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) >= 0 ? Integer.MAX_VALUE : number.intValue();
+    }
+
+    private static boolean finite(Number number) {
+        return !(number instanceof Double || number instanceof Float) || Double.isFinite(number.doubleValue());
+    }
+
+    private static JsonException invalid(String keyword, String expected) {
+        return new JsonException(String.format("Json Schema keyword '%s' must be %s.", keyword, expected));
+    }
+
+    private static int type(String name) {
+        for (int i = 0; i < TYPES.length; i++) {
+            if (TYPES[i].equals(name)) {
+                return 1 << i;
+            }
+        }
+
+        throw new JsonException(String.format("Unknown Json Schema type '%s'.", name));
+    }
+
+    public void validate(JsonElement element) {
+        check(element == null ? JsonNull.INSTANCE : element, root, null);
+    }
+
+    public boolean isValid(JsonElement element) {
+        try {
+            validate(element);
+            return true;
+        } catch (JsonException e) {
+            return false;
+        }
+    }
+
+    public JsonElement read(JsonReader reader) {
+        return stream(reader, root, null, true);
+    }
+
+    public void validate(JsonReader reader) {
+        stream(reader, root, null, false);
+    }
+
+    private static void check(JsonElement element, Node node, Path path) {
+        if (node.reject) {
+            throw violation(path, "no value is allowed");
+        }
+
+        checkType(typeOf(element, node.types), node, path);
+
+        if (node.values != null && !node.values.contains(element)) {
+            throw violation(path, "value is not one of the allowed values");
+        }
+
+        switch (element) {
+            case JsonObject object -> {
+                checkProperties(object.size(), node, path);
+
+                if (node.required != null) {
+                    for (String name : node.required.keySet()) {
+                        if (!object.has(name)) {
+                            throw violation(path, String.format("required property '%s' is missing", name));
+                        }
+                    }
+                }
+
+                if (node.hasMembers()) {
+                    for (int i = 0; i < object.size(); i++) {
+                        String key = object.keyAt(i);
+                        Node child = node.member(key, path);
+
+                        if (child != null) {
+                            check(object.valueAt(i), child, new Path(path, key));
+                        }
+                    }
+                }
+            }
+
+            case JsonArray array -> {
+                checkItems(array.size(), node, path);
+
+                if (node.items != null) {
+                    for (int i = 0; i < array.size(); i++) {
+                        check(array.get(i), node.items, new Path(path, Integer.toString(i)));
+                    }
+                }
+
+                if (node.unique && new HashSet<>(array.asList()).size() != array.size()) {
+                    throw violation(path, "items are not unique");
+                }
+            }
+
+            case JsonPrimitive primitive when primitive.isString() -> checkString(primitive.getAsString(), node, path);
+            case JsonPrimitive primitive when primitive.isNumber() -> checkNumber(primitive.getAsNumber(), node, path);
+            default -> {
+            }
+        }
+    }
+
+    private static JsonElement stream(JsonReader reader, Node node, Path path, boolean build) {
+        if (node.reject) {
+            throw violation(path, "no value is allowed");
+        }
+
+        JsonToken token = reader.peek();
+
+        if (node.values == null && token == JsonToken.BEGIN_OBJECT && (node.hasMembers() || node.required != null || node.minProperties > 0 || node.maxProperties < Integer.MAX_VALUE)) {
+            checkType(OBJECT, node, path);
+            reader.beginObject();
+
+            JsonObject object = build ? new JsonObject() : null;
+            boolean[] seen = node.required == null ? null : new boolean[node.required.size()];
+            Set<String> names = node.minProperties > 0 || node.maxProperties < Integer.MAX_VALUE ? new HashSet<>() : null;
+
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+
+                if (names != null && names.add(key) && names.size() > node.maxProperties) {
+                    throw violation(path, String.format("more than %s properties", node.maxProperties));
+                }
+
+                Node child = node.member(key, path);
+
+                if (seen != null) {
+                    Integer index = node.required.get(key);
+
+                    if (index != null) {
+                        seen[index] = true;
+                    }
+                }
+
+                JsonElement value = child == null ? skip(reader, build) : stream(reader, child, new Path(path, key), build);
+
+                if (build) {
+                    object.add(key, value);
+                }
+            }
+
+            reader.endObject();
+
+            if (names != null) {
+                checkProperties(names.size(), node, path);
+            }
+
+            if (seen != null) {
+                for (Map.Entry<String, Integer> required : node.required.entrySet()) {
+                    if (!seen[required.getValue()]) {
+                        throw violation(path, String.format("required property '%s' is missing", required.getKey()));
+                    }
+                }
+            }
+
+            return object;
+        }
+
+        if (node.values == null && token == JsonToken.BEGIN_ARRAY && (node.items != null || node.unique || node.minItems > 0 || node.maxItems < Integer.MAX_VALUE)) {
+            checkType(ARRAY, node, path);
+            reader.beginArray();
+
+            JsonArray array = build ? new JsonArray() : null;
+            Set<JsonElement> items = node.unique ? new HashSet<>() : null;
+            boolean keep = build || node.unique;
+            int count = 0;
+
+            while (reader.hasNext()) {
+                if (count == node.maxItems) {
+                    throw violation(path, String.format("more than %s items", node.maxItems));
+                }
+
+                JsonElement value = node.items == null ? skip(reader, keep) : stream(reader, node.items, new Path(path, Integer.toString(count)), keep);
+                count++;
+
+                if (items != null && !items.add(value)) {
+                    throw violation(path, "items are not unique");
+                }
+
+                if (build) {
+                    array.add(value);
+                }
+            }
+
+            reader.endArray();
+            checkItems(count, node, path);
+            return array;
+        }
+
+        if (!build && node.values == null && (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY)) {
+            checkType(token == JsonToken.BEGIN_OBJECT ? OBJECT : ARRAY, node, path);
+            reader.skipValue();
+            return null;
+        }
+
+        JsonElement element = reader.nextJsonElement();
+        check(element, node, path);
+        return element;
+    }
+
+    private static JsonElement skip(JsonReader reader, boolean build) {
+        if (build) {
+            return reader.nextJsonElement();
+        }
+
+        reader.skipValue();
+        return null;
+    }
+
+    private static int typeOf(JsonElement element, int allowed) {
+        return switch (element) {
+            case JsonObject ignored -> OBJECT;
+            case JsonArray ignored -> ARRAY;
+            case JsonNull ignored -> NULL;
+            case JsonPrimitive primitive when primitive.isString() -> STRING;
+            case JsonPrimitive primitive when primitive.isBoolean() -> BOOLEAN;
+
+            default -> {
+                Number number = element.getAsNumber();
+
+                if ((allowed & (INTEGER | NUMBER)) == INTEGER) {
+                    yield integral(number) ? INTEGER : NUMBER;
+                }
+
+                yield NUMBER;
+            }
+        };
+    }
+
+    private static boolean integral(Number number) {
+        return switch (number) {
+            case Long ignored -> true;
+            case Integer ignored -> true;
+            case Double value -> value == Math.rint(value) && Double.isFinite(value);
+            default -> JsonPrimitive.decimal(number).stripTrailingZeros().scale() <= 0;
+        };
+    }
+
+    private static void checkType(int type, Node node, Path path) {
+        if (node.types != 0 && (node.types & type) == 0) {
+            throw violation(path, String.format("expected %s but was %s", typeNames(node.types), TYPES[Integer.numberOfTrailingZeros(type)]));
+        }
+    }
+
+    private static String typeNames(int types) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < TYPES.length; i++) {
+            if ((types & (1 << i)) != 0) {
+                builder.append(builder.isEmpty() ? "" : " or ").append(TYPES[i]);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static void checkString(String string, Node node, Path path) {
+        if (node.minLength > 0 || node.maxLength < Integer.MAX_VALUE) {
+            int length = string.codePointCount(0, string.length());
+
+            if (length < node.minLength) {
+                throw violation(path, String.format("string shorter than %s", node.minLength));
+            }
+
+            if (length > node.maxLength) {
+                throw violation(path, String.format("string longer than %s", node.maxLength));
+            }
+        }
+
+        if (node.pattern != null && !node.pattern.matcher(string).find()) {
+            throw violation(path, String.format("string does not match pattern '%s'", node.pattern));
+        }
+    }
+
+    private static void checkNumber(Number number, Node node, Path path) {
+        if (node.minimum == null && node.maximum == null && node.exclusiveMinimum == null && node.exclusiveMaximum == null && node.multipleOf == null) {
+            return;
+        }
+
+        if (!finite(number)) {
+            throw violation(path, String.format("%s is not a finite number", number));
+        }
+
+        BigDecimal value = JsonPrimitive.decimal(number);
+
+        if (node.minimum != null && value.compareTo(node.minimum) < 0) {
+            throw violation(path, String.format("%s is less than minimum %s", number, node.minimum));
+        }
+
+        if (node.maximum != null && value.compareTo(node.maximum) > 0) {
+            throw violation(path, String.format("%s is greater than maximum %s", number, node.maximum));
+        }
+
+        if (node.exclusiveMinimum != null && value.compareTo(node.exclusiveMinimum) <= 0) {
+            throw violation(path, String.format("%s is not greater than %s", number, node.exclusiveMinimum));
+        }
+
+        if (node.exclusiveMaximum != null && value.compareTo(node.exclusiveMaximum) >= 0) {
+            throw violation(path, String.format("%s is not less than %s", number, node.exclusiveMaximum));
+        }
+
+        if (node.multipleOf != null && value.remainder(node.multipleOf).signum() != 0) {
+            throw violation(path, String.format("%s is not a multiple of %s", number, node.multipleOf));
+        }
+    }
+
+    private static void checkProperties(int count, Node node, Path path) {
+        if (count < node.minProperties) {
+            throw violation(path, String.format("fewer than %s properties", node.minProperties));
+        }
+
+        if (count > node.maxProperties) {
+            throw violation(path, String.format("more than %s properties", node.maxProperties));
+        }
+    }
+
+    private static void checkItems(int count, Node node, Path path) {
+        if (count < node.minItems) {
+            throw violation(path, String.format("fewer than %s items", node.minItems));
+        }
+
+        if (count > node.maxItems) {
+            throw violation(path, String.format("more than %s items", node.maxItems));
+        }
+    }
+
+    private static JsonException violation(Path path, String reason) {
+        StringBuilder pointer = new StringBuilder();
+
+        for (Path node = path; node != null; node = node.parent) {
+            pointer.insert(0, JsonPointer.of(node.token));
+        }
+
+        return new JsonException(String.format("Json Schema violation at '%s': %s.", pointer, reason));
+    }
+
+    private record Path(Path parent, String token) {
+    }
+
+    private static final class Node {
+        boolean reject;
+        int types;
+        Map<String, Node> properties;
+        Map<String, Integer> required;
+        Node additional;
+        boolean closed;
+        Node items;
+        Set<JsonElement> values;
+        BigDecimal minimum;
+        BigDecimal maximum;
+        BigDecimal exclusiveMinimum;
+        BigDecimal exclusiveMaximum;
+        BigDecimal multipleOf;
+        int minLength;
+        int maxLength = Integer.MAX_VALUE;
+        int minItems;
+        int maxItems = Integer.MAX_VALUE;
+        boolean unique;
+        int minProperties;
+        int maxProperties = Integer.MAX_VALUE;
+        Pattern pattern;
+
+        boolean hasMembers() {
+            return properties != null || additional != null || closed;
+        }
+
+        Node member(String key, Path path) {
+            Node child = properties == null ? null : properties.get(key);
+
+            if (child != null) {
+                return child;
+            }
+
+            if (closed) {
+                throw violation(path, String.format("property '%s' is not allowed", key));
+            }
+
+            return additional;
+        }
+    }
+}
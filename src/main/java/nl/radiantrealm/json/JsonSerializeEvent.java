@@ -0,0 +1,23 @@
+package nl.radiantrealm.json;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("nl.radiantrealm.json.Serialize")
+@Label("Json Serialize")
+@Category("Json")
+@Description("A Json element serialized to a String.")
+final class JsonSerializeEvent extends Event {
+
+    @Label("Length")
+    long length;
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Error")
+    String error;
+}
@@ -0,0 +1,195 @@
+package nl.radiantrealm.json;
+
+class JsonStringLexer extends JsonLexer {
+    private String input;
+    private int index;
+
+    private final StringBuilder scratch = new StringBuilder();
+
+    JsonStringLexer(String input) {
+        this.input = input;
+    }
+
+    void reset(String input) {
+        this.input = input;
+        this.index = 0;
+    }
+
+    @Override
+    char read() {
+        if (index < input.length()) {
+            return input.charAt(index++);
+        }
+
+        throw endOfInput();
+    }
+
+    @Override
+    int peek() {
+        return index < input.length() ? input.charAt(index) : -1;
+    }
+
+    @Override
+    long position() {
+        return index;
+    }
+
+    @Override
+    void checkDocumentLength() {
+        if (input.length() > limits.maxDocumentLength()) {
+            throw JsonLimits.exceeded("Document length", limits.maxDocumentLength(), Math.max(position(), limits.maxDocumentLength()));
+        }
+    }
+
+    @Override
+    boolean isSeekable() {
+        return true;
+    }
+
+    @Override
+    void seek(long position) {
+        index = (int) position;
+    }
+
+    @Override
+    JsonLexer duplicate() {
+        JsonStringLexer copy = adopt(new JsonStringLexer(input));
+        copy.index = index;
+        return copy;
+    }
+
+    @Override
+    char next() {
+        while (index < input.length()) {
+            char c = input.charAt(index++);
+
+            if (!isWhitespace(c)) {
+                return c;
+            }
+        }
+
+        throw endOfInput();
+    }
+
+    @Override
+    String readString() {
+        StringBuilder builder = null;
+        int length = input.length();
+        int start = index;
+
+        while (true) {
+            int i = index;
+            int end = (int) Math.min(length, (long) start + limits.maxStringLength() - (builder == null ? 0 : builder.length()) + 1);
+            char c = 0;
+
+            while (i < end) {
+                c = input.charAt(i);
+
+                if (c == '"' || c == '\\' || c < 0x20) {
+                    break;
+                }
+
+                i++;
+            }
+
+            if (i == end && end < length) {
+                index = i;
+                checkStringLength(builder == null ? i - start : builder.length() + i - start);
+            }
+
+            if (i == length) {
+                index = length;
+                throw endOfInput();
+            }
+
+            index = i + 1;
+
+            if (c == '"') {
+                checkStringLength(builder == null ? i - start : builder.length() + i - start);
+                return builder == null ? input.substring(start, i) : builder.append(input, start, i).toString();
+            }
+
+            if (c != '\\') {
+                throw unexpected(c);
+            }
+
+            if (builder == null) {
+                builder = scratch;
+                builder.setLength(0);
+            }
+
+            builder.append(input, start, i);
+            checkStringLength(builder.length());
+            readEscape(builder);
+            start = index;
+        }
+    }
+
+    private void readEscape(StringBuilder builder) {
+        char c = read();
+
+        switch (c) {
+            case '"', '\\', '/' -> builder.append(c);
+            case 'b' -> builder.append('\b');
+            case 'n' -> builder.append('\n');
+            case 'r' -> builder.append('\r');
+            case 't' -> builder.append('\t');
+            case 'f' -> builder.append('\f');
+            case 'u' -> builder.appendCodePoint(readCodePoint());
+            default -> throw unexpected(c);
+        }
+    }
+
+    @Override
+    String readKey() {
+        JsonSymbolTable table = symbols;
+
+        if (table != null) {
+            int end = Math.min(input.length(), index + JsonSymbolTable.MAX_LENGTH + 1);
+            int hash = 0;
+
+            for (int i = index; i < end; i++) {
+                char c = input.charAt(i);
+
+                if (c == '"') {
+                    checkStringLength(i - index);
+                    String key = table.lookup(input, index, i - index, hash);
+                    index = i + 1;
+                    return key;
+                }
+
+                if (c == '\\' || c < 0x20) {
+                    break;
+                }
+
+                hash = 31 * hash + c;
+            }
+        }
+
+        return readString();
+    }
+
+    @Override
+    void skipString() {
+        while (true) {
+            int quote = input.indexOf('"', index);
+
+            if (quote < 0) {
+                index = input.length();
+                throw endOfInput();
+            }
+
+            int backslashes = 0;
+
+            while (input.charAt(quote - 1 - backslashes) == '\\') {
+                backslashes++;
+            }
+
+            index = quote + 1;
+
+            if ((backslashes & 1) == 0) {
+                return;
+            }
+        }
+    }
+}
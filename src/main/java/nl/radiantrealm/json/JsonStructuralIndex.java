@@ -0,0 +1,37 @@
+package nl.radiantrealm.json;
+
+public final class JsonStructuralIndex {
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    final byte[] input;
+    final int offset;
+    final int length;
+    final int[] positions;
+    final int size;
+
+    private JsonStructuralIndex(byte[] input, int offset, int length, int[] positions, int size) {
+        this.input = input;
+        this.offset = offset;
+        this.length = length;
+        this.positions = positions;
+        this.size = size;
+    }
+
+    public static JsonStructuralIndex build(byte[] input) {
+        return build(input, 0, input.length);
+    }
+
+    public static JsonStructuralIndex build(byte[] input, int offset, int length) {
+        JsonStructuralScanner scanner = VECTORIZED ? new JsonVectorScanner() : new JsonStructuralScanner();
+        int[] positions = scanner.scan(input, offset, length);
+        return new JsonStructuralIndex(input, offset, length, positions, scanner.size);
+    }
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    public int size() {
+        return size;
+    }
+}
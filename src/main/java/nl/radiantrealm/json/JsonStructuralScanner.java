@@ -0,0 +1,131 @@
+package nl.radiantrealm.json;
+
+import java.util.Arrays;
+
+class JsonStructuralScanner {
+    private static final long ODD_BITS = 0xAAAAAAAAAAAAAAAAL;
+
+    private static final byte QUOTE = 1;
+    private static final byte BACKSLASH = 2;
+    private static final byte OPERATOR = 4;
+    private static final byte WHITESPACE = 8;
+
+    private static final byte[] CLASSES = new byte[256];
+
+    static {
+        CLASSES['"'] = QUOTE;
+        CLASSES['\\'] = BACKSLASH;
+
+        for (char c : new char[] {'{', '}', '[', ']', ':', ','}) {
+            CLASSES[c] = OPERATOR;
+        }
+
+        for (char c : new char[] {' ', '\t', '\n', '\r'}) {
+            CLASSES[c] = WHITESPACE;
+        }
+    }
+
+    long quote;
+    long backslash;
+    long operator;
+    long whitespace;
+
+    int size;
+
+    private long nextIsEscaped;
+    private long previousInString;
+    private long previousScalar;
+
+    void classify(byte[] block, int offset) {
+        long quote = 0;
+        long backslash = 0;
+        long operator = 0;
+        long whitespace = 0;
+
+        for (int i = 0; i < 64; i++) {
+            long bit = 1L << i;
+
+            switch (CLASSES[block[offset + i] & 0xFF]) {
+                case QUOTE -> quote |= bit;
+                case BACKSLASH -> backslash |= bit;
+                case OPERATOR -> operator |= bit;
+                case WHITESPACE -> whitespace |= bit;
+                default -> {
+                }
+            }
+        }
+
+        this.quote = quote;
+        this.backslash = backslash;
+        this.operator = operator;
+        this.whitespace = whitespace;
+    }
+
+    int[] scan(byte[] input, int offset, int length) {
+        int[] positions = new int[Math.max(64, length / 4)];
+
+        byte[] tail = null;
+        int end = offset + length;
+
+        for (int base = offset; base < end; base += 64) {
+            if (base + 64 <= end) {
+                classify(input, base);
+            } else {
+                tail = new byte[64];
+                Arrays.fill(tail, (byte) ' ');
+                System.arraycopy(input, base, tail, 0, end - base);
+                classify(tail, 0);
+            }
+
+            long structurals = structurals();
+
+            if (size + 64 > positions.length) {
+                positions = Arrays.copyOf(positions, Math.max(positions.length * 2, size + 64));
+            }
+
+            while (structurals != 0) {
+                positions[size++] = base + Long.numberOfTrailingZeros(structurals);
+                structurals &= structurals - 1;
+            }
+        }
+
+        return positions;
+    }
+
+    private long structurals() {
+        long escaped;
+
+        if (backslash == 0) {
+            escaped = nextIsEscaped;
+            nextIsEscaped = 0;
+        } else {
+            long potentialEscape = backslash & ~nextIsEscaped;
+            long maybeEscaped = potentialEscape << 1;
+            long escapeAndTerminal = ((maybeEscaped | ODD_BITS) - potentialEscape) ^ ODD_BITS;
+            escaped = escapeAndTerminal ^ (backslash | nextIsEscaped);
+            nextIsEscaped = (escapeAndTerminal & backslash) >>> 63;
+        }
+
+        long quotes = quote & ~escaped;
+        long inString = prefixXor(quotes) ^ previousInString;
+        previousInString = inString >> 63;
+
+        long scalar = ~(operator | whitespace);
+        long nonQuoteScalar = scalar & ~quotes;
+        long followsScalar = (nonQuoteScalar << 1) | previousScalar;
+        previousScalar = nonQuoteScalar >>> 63;
+
+        long stringTail = inString ^ quotes;
+        return (operator | (scalar & ~followsScalar)) & ~stringTail;
+    }
+
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+}
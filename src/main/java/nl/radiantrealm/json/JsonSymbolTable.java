@@ -0,0 +1,86 @@
+package nl.radiantrealm.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public final class JsonSymbolTable {
+    public static final JsonSymbolTable SHARED = new JsonSymbolTable();
+
+    static final int MAX_LENGTH = 64;
+    private static final int PROBES = 4;
+
+    private final Entry[] entries;
+    private final int mask;
+
+    public JsonSymbolTable() {
+        this(2048);
+    }
+
+    public JsonSymbolTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, PROBES) - 1) << 1;
+        this.entries = new Entry[size];
+        this.mask = size - 1;
+    }
+
+    String lookup(String input, int offset, int length, int hash) {
+        int slot = slot(hash);
+
+        for (int i = 0; i < PROBES; i++) {
+            Entry entry = entries[(slot + i) & mask];
+
+            if (entry == null) {
+                break;
+            }
+
+            if (entry.hash == hash && entry.string.length() == length && input.regionMatches(offset, entry.string, 0, length)) {
+                return entry.string;
+            }
+        }
+
+        String string = input.substring(offset, offset + length);
+        store(slot, new Entry(string, string.getBytes(StandardCharsets.UTF_8), hash));
+        return string;
+    }
+
+    String lookup(byte[] input, int offset, int length, int hash) {
+        int slot = slot(hash);
+
+        for (int i = 0; i < PROBES; i++) {
+            Entry entry = entries[(slot + i) & mask];
+
+            if (entry == null) {
+                break;
+            }
+
+            if (entry.hash == hash && Arrays.equals(entry.bytes, 0, entry.bytes.length, input, offset, offset + length)) {
+                return entry.string;
+            }
+        }
+
+        String string = new String(input, offset, length, StandardCharsets.UTF_8);
+        store(slot, new Entry(string, Arrays.copyOfRange(input, offset, offset + length), hash));
+        return string;
+    }
+
+    public void clear() {
+        Arrays.fill(entries, null);
+    }
+
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void store(int slot, Entry entry) {
+        for (int i = 0; i < PROBES; i++) {
+            if (entries[(slot + i) & mask] == null) {
+                entries[(slot + i) & mask] = entry;
+                return;
+            }
+        }
+
+        entries[slot] = entry;
+    }
+
+    private record Entry(String string, byte[] bytes, int hash) {
+    }
+}
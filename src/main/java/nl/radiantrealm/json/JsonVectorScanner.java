@@ -0,0 +1,41 @@
+package nl.radiantrealm.json;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorSpecies;
+
+class JsonVectorScanner extends JsonStructuralScanner {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    @Override
+    void classify(byte[] block, int offset) {
+        long quote = 0;
+        long backslash = 0;
+        long operator = 0;
+        long whitespace = 0;
+
+        for (int i = 0; i < 64; i += SPECIES.length()) {
+            ByteVector vector = ByteVector.fromArray(SPECIES, block, offset + i);
+            ByteVector lower = vector.or((byte) 0x20);
+
+            quote |= vector.eq((byte) '"').toLong() << i;
+            backslash |= vector.eq((byte) '\\').toLong() << i;
+
+            operator |= lower.eq((byte) '{')
+                    .or(lower.eq((byte) '}'))
+                    .or(vector.eq((byte) ':'))
+                    .or(vector.eq((byte) ','))
+                    .toLong() << i;
+
+            whitespace |= vector.eq((byte) ' ')
+                    .or(vector.eq((byte) '\t'))
+                    .or(vector.eq((byte) '\n'))
+                    .or(vector.eq((byte) '\r'))
+                    .toLong() << i;
+        }
+
+        this.quote = quote;
+        this.backslash = backslash;
+        this.operator = operator;
+        this.whitespace = whitespace;
+    }
+}
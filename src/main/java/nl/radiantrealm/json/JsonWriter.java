@@ -0,0 +1,556 @@
+package nl.radiantrealm.json;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class JsonWriter implements Closeable, Flushable {
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int DANGLING_NAME = 5;
+    private static final int NONEMPTY_OBJECT = 6;
+
+    private static final String[] ESCAPES = new String[128];
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = String.format("\\u%04x", i);
+        }
+
+        ESCAPES['"'] = "\\\"";
+        ESCAPES['\\'] = "\\\\";
+        ESCAPES['\b'] = "\\b";
+        ESCAPES['\f'] = "\\f";
+        ESCAPES['\n'] = "\\n";
+        ESCAPES['\r'] = "\\r";
+        ESCAPES['\t'] = "\\t";
+    }
+
+    private Appendable appendable;
+    private OutputStream stream;
+    private ByteBuffer buffer;
+
+    private byte[] buf;
+    private int count;
+
+    private int[] scopes = new int[32];
+    private int depth;
+
+    private String indent;
+    private boolean canonical;
+
+    private final StringBuilder number = new StringBuilder(24);
+
+    private JsonElement[] containers = new JsonElement[16];
+    private int[] cursors = new int[16];
+    private int[][] orders = new int[16][];
+    int peak;
+
+    public JsonWriter(Appendable out) {
+        this.appendable = out;
+        this.stream = null;
+        this.buffer = null;
+        scopes[depth++] = EMPTY_DOCUMENT;
+    }
+
+    public JsonWriter(OutputStream out) {
+        this.appendable = null;
+        this.stream = out;
+        this.buffer = null;
+        this.buf = new byte[BUFFER_SIZE];
+        scopes[depth++] = EMPTY_DOCUMENT;
+    }
+
+    public JsonWriter(ByteBuffer out) {
+        this.appendable = null;
+        this.stream = null;
+        this.buffer = out;
+        this.buf = new byte[BUFFER_SIZE];
+        scopes[depth++] = EMPTY_DOCUMENT;
+    }
+
+    public JsonWriter reset(Appendable out) {
+        flushBuffer();
+        this.appendable = out;
+        this.stream = null;
+        this.buffer = null;
+        return clear();
+    }
+
+    public JsonWriter reset(OutputStream out) {
+        flushBuffer();
+        this.appendable = null;
+        this.stream = out;
+        this.buffer = null;
+        return clear();
+    }
+
+    public JsonWriter reset(ByteBuffer out) {
+        flushBuffer();
+        this.appendable = null;
+        this.stream = null;
+        this.buffer = out;
+        return clear();
+    }
+
+    private JsonWriter clear() {
+        if (appendable == null && buf == null) {
+            buf = new byte[BUFFER_SIZE];
+        }
+
+        count = 0;
+        depth = 0;
+        scopes[depth++] = EMPTY_DOCUMENT;
+        return this;
+    }
+
+    public JsonWriter setPrettyPrinting(boolean prettyPrinting) {
+        this.indent = prettyPrinting ? "  " : null;
+        return this;
+    }
+
+    public JsonWriter setCanonical(boolean canonical) {
+        this.canonical = canonical;
+        return this;
+    }
+
+    public JsonWriter setIndent(String indent) {
+        this.indent = indent == null || indent.isEmpty() ? null : indent;
+        return this;
+    }
+
+    public JsonWriter beginObject() {
+        beforeValue();
+        push(EMPTY_OBJECT);
+        write('{');
+        return this;
+    }
+
+    public JsonWriter endObject() {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    public JsonWriter beginArray() {
+        beforeValue();
+        push(EMPTY_ARRAY);
+        write('[');
+        return this;
+    }
+
+    public JsonWriter endArray() {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    private JsonWriter close(int empty, int nonempty, char bracket) {
+        int scope = scopes[depth - 1];
+
+        if (scope != empty && scope != nonempty) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+
+        depth--;
+
+        if (scope == nonempty) {
+            newline();
+        }
+
+        write(bracket);
+        return this;
+    }
+
+    public JsonWriter name(String name) {
+        int scope = scopes[depth - 1];
+
+        if (scope == NONEMPTY_OBJECT) {
+            write(',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new IllegalStateException("Nesting problem.");
+        }
+
+        newline();
+        scopes[depth - 1] = DANGLING_NAME;
+        writeString(name);
+        return this;
+    }
+
+    public JsonWriter value(String value) {
+        if (value == null) {
+            return nullValue();
+        }
+
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    public JsonWriter value(boolean value) {
+        beforeValue();
+        write(value ? "true" : "false");
+        return this;
+    }
+
+    public JsonWriter value(Boolean value) {
+        return value == null ? nullValue() : value(value.booleanValue());
+    }
+
+    public JsonWriter value(long value) {
+        beforeValue();
+        number.setLength(0);
+        write(number.append(value), 0, number.length());
+        return this;
+    }
+
+    public JsonWriter value(double value) {
+        if (!Double.isFinite(value)) {
+            throw new JsonException(String.format("Numeric value %s is not valid Json.", value));
+        }
+
+        if (canonical) {
+            return value((Number) value);
+        }
+
+        beforeValue();
+        number.setLength(0);
+        write(number.append(value), 0, number.length());
+        return this;
+    }
+
+    public JsonWriter value(Number value) {
+        if (canonical && value != null && !(value instanceof Long)) {
+            if ((value instanceof Double || value instanceof Float) && !Double.isFinite(value.doubleValue())) {
+                throw new JsonException(String.format("Numeric value %s is not valid Json.", value));
+            }
+
+            beforeValue();
+            write(JsonPrimitive.canonical(value));
+            return this;
+        }
+
+        return switch (value) {
+            case null -> nullValue();
+            case Long number -> value(number.longValue());
+            case Integer number -> value(number.longValue());
+            case Short number -> value(number.longValue());
+            case Byte number -> value(number.longValue());
+            case Double number -> value(number.doubleValue());
+            case Float number -> value(number.doubleValue());
+
+            case BigDecimal number -> {
+                beforeValue();
+                write(number.toString());
+                yield this;
+            }
+
+            case BigInteger number -> {
+                beforeValue();
+                write(number.toString());
+                yield this;
+            }
+
+            default -> {
+                String string = value.toString();
+
+                if (string.equals("NaN") || string.contains("Infinity")) {
+                    throw new JsonException(String.format("Numeric value %s is not valid Json.", string));
+                }
+
+                beforeValue();
+                write(string);
+                yield this;
+            }
+        };
+    }
+
+    public JsonWriter nullValue() {
+        beforeValue();
+        write("null");
+        return this;
+    }
+
+    public JsonWriter value(JsonElement element) {
+        JsonElement current = element == null ? JsonNull.INSTANCE : element;
+        int top = 0;
+
+        while (true) {
+            switch (current) {
+                case JsonObject object -> {
+                    beginObject();
+                    top = pushContainer(top, object);
+                }
+
+                case JsonArray array -> {
+                    beginArray();
+                    top = pushContainer(top, array);
+                }
+
+                case JsonLongPrimitive primitive -> value(primitive.value);
+                case JsonDoublePrimitive primitive -> value(primitive.value);
+
+                case JsonPrimitive primitive -> {
+                    switch (primitive.getValue()) {
+                        case Boolean bool -> value(bool.booleanValue());
+                        case Number number -> value(number);
+                        case String string -> value(string);
+                        default -> throw new IllegalArgumentException("Unknown Json primitive type.");
+                    }
+                }
+
+                case JsonNull ignored -> nullValue();
+                default -> throw new IllegalStateException();
+            }
+
+            current = null;
+
+            while (current == null) {
+                if (top == 0) {
+                    return this;
+                }
+
+                int index = cursors[top - 1]++;
+
+                if (containers[top - 1] instanceof JsonObject object) {
+                    if (index == object.size()) {
+                        endObject();
+                        containers[--top] = null;
+                        orders[top] = null;
+                    } else {
+                        if (orders[top - 1] != null) {
+                            index = orders[top - 1][index];
+                        }
+
+                        name(object.keyAt(index));
+                        current = object.valueAt(index);
+                    }
+                } else {
+                    JsonArray array = (JsonArray) containers[top - 1];
+
+                    if (index == array.size()) {
+                        endArray();
+                        containers[--top] = null;
+                    } else if (array.longs != null) {
+                        value(array.longs[index]);
+                    } else if (array.doubles != null) {
+                        value(array.doubles[index]);
+                    } else {
+                        current = array.get(index);
+                    }
+                }
+            }
+        }
+    }
+
+    private int pushContainer(int top, JsonElement container) {
+        if (top == containers.length) {
+            containers = Arrays.copyOf(containers, top * 2);
+            cursors = Arrays.copyOf(cursors, top * 2);
+            orders = Arrays.copyOf(orders, top * 2);
+        }
+
+        containers[top] = container;
+        cursors[top] = 0;
+        orders[top] = canonical && container instanceof JsonObject object ? order(object) : null;
+
+        if (top >= peak) {
+            peak = top + 1;
+        }
+
+        return top + 1;
+    }
+
+    private static int[] order(JsonObject object) {
+        Integer[] indices = new Integer[object.size()];
+
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+        }
+
+        Arrays.sort(indices, (a, b) -> object.keyAt(a).compareTo(object.keyAt(b)));
+        int[] order = new int[indices.length];
+
+        for (int i = 0; i < order.length; i++) {
+            order[i] = indices[i];
+        }
+
+        return order;
+    }
+
+    private void beforeValue() {
+        switch (scopes[depth - 1]) {
+            case EMPTY_DOCUMENT -> scopes[depth - 1] = NONEMPTY_DOCUMENT;
+
+            case EMPTY_ARRAY -> {
+                scopes[depth - 1] = NONEMPTY_ARRAY;
+                newline();
+            }
+
+            case NONEMPTY_ARRAY -> {
+                write(',');
+                newline();
+            }
+
+            case DANGLING_NAME -> {
+                scopes[depth - 1] = NONEMPTY_OBJECT;
+                write(indent == null ? ":" : ": ");
+            }
+
+            case NONEMPTY_DOCUMENT -> throw new IllegalStateException("Json must have only one top-level value.");
+            default -> throw new IllegalStateException("Nesting problem.");
+        }
+    }
+
+    private void newline() {
+        if (indent == null) {
+            return;
+        }
+
+        write('\n');
+
+        for (int i = 1; i < depth; i++) {
+            write(indent);
+        }
+    }
+
+    private void push(int scope) {
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+        }
+
+        scopes[depth++] = scope;
+    }
+
+    private void writeString(String string) {
+        write('"');
+
+        int start = 0;
+        int length = string.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = string.charAt(i);
+
+            if (c < 128 && ESCAPES[c] != null) {
+                write(string, start, i);
+                write(ESCAPES[c]);
+                start = i + 1;
+            }
+        }
+
+        write(string, start, length);
+        write('"');
+    }
+
+    private void write(String string) {
+        write(string, 0, string.length());
+    }
+
+    private void write(CharSequence string, int start, int end) {
+        if (start == end) {
+            return;
+        }
+
+        if (appendable != null) {
+            try {
+                appendable.append(string, start, end);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            return;
+        }
+
+        for (int i = start; i < end; i++) {
+            char c = string.charAt(i);
+
+            if (c < 0x80) {
+                writeByte(c);
+            } else if (c < 0x800) {
+                writeByte(0xC0 | (c >> 6));
+                writeByte(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(string.charAt(i + 1))) {
+                int code = Character.toCodePoint(c, string.charAt(++i));
+                writeByte(0xF0 | (code >> 18));
+                writeByte(0x80 | ((code >> 12) & 0x3F));
+                writeByte(0x80 | ((code >> 6) & 0x3F));
+                writeByte(0x80 | (code & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                writeByte('?');
+            } else {
+                writeByte(0xE0 | (c >> 12));
+                writeByte(0x80 | ((c >> 6) & 0x3F));
+                writeByte(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void write(char c) {
+        if (appendable != null) {
+            try {
+                appendable.append(c);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        } else {
+            writeByte(c);
+        }
+    }
+
+    private void writeByte(int b) {
+        if (count == buf.length) {
+            flushBuffer();
+        }
+
+        buf[count++] = (byte) b;
+    }
+
+    private void flushBuffer() {
+        if (count == 0 || appendable != null) {
+            return;
+        }
+
+        if (buffer != null) {
+            buffer.put(buf, 0, count);
+        } else {
+            try {
+                stream.write(buf, 0, count);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        count = 0;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (appendable instanceof Flushable flushable) {
+            flushable.flush();
+        } else if (appendable == null) {
+            flushBuffer();
+
+            if (stream != null) {
+                stream.flush();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+
+        if (appendable instanceof Closeable closeable) {
+            closeable.close();
+        } else if (stream != null) {
+            stream.close();
+        }
+    }
+}
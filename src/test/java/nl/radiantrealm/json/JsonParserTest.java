@@ -0,0 +1,90 @@
+package nl.radiantrealm.json;
+
+public class JsonParserTest {
+
+    public void testLazyObjectSurvivesStringReset() {
+        JsonParser parser = new JsonParser("{\"a\":1,\"b\":\"x\"}");
+        JsonObject object = parser.getLazyJsonObject();
+
+        parser.reset("{\"zz\":[1,2,3],\"q\":5}");
+        JsonObject next = parser.getJsonObject();
+
+        check(object.get("b").getAsString().equals("x"), "lazy object read the reset document");
+        check(object.get("a").getAsLong() == 1, "lazy object read the reset document");
+        check(next.get("q").getAsLong() == 5, "reset document was not parsed");
+    }
+
+    public void testLazyArraySurvivesByteReset() {
+        JsonParser parser = new JsonParser("[\"x\",{\"k\":true}]".getBytes());
+        JsonArray array = parser.getLazyJsonArray();
+
+        parser.reset("[[1,2,3],5]".getBytes());
+        JsonArray next = parser.getJsonArray();
+
+        check(array.get(0).getAsString().equals("x"), "lazy array read the reset document");
+        check(array.get(1).getAsJsonObject().get("k").getAsBoolean(), "lazy array read the reset document");
+        check(next.get(1).getAsLong() == 5, "reset document was not parsed");
+    }
+
+    public void testLazyReadsDoNotMoveParser() {
+        JsonParser parser = new JsonParser("{\"a\":[1,2]} {\"b\":3} [\"c\",4] 5");
+        JsonObject first = parser.getLazyJsonObject();
+
+        check(first.get("a").getAsJsonArray().size() == 2, "lazy object member was not read");
+        check(parser.getJsonElement().getAsJsonObject().get("b").getAsLong() == 3, "lazy read moved the parser");
+
+        JsonArray third = parser.getLazyJsonArray();
+
+        check(third.get(1).getAsLong() == 4, "lazy array element was not read");
+        check(parser.getJsonElement().getAsLong() == 5, "lazy read moved the parser");
+        check(first.get("a").getAsJsonArray().get(1).getAsLong() == 2, "lazy object read the wrong document");
+    }
+
+    public void testLazyReadsDoNotMoveByteParser() {
+        JsonParser parser = new JsonParser("{\"a\":[1,2]} {\"b\":3}".getBytes());
+        JsonObject first = parser.getLazyJsonObject();
+
+        check(first.get("a").getAsJsonArray().size() == 2, "lazy object member was not read");
+        check(parser.getJsonElement().getAsJsonObject().get("b").getAsLong() == 3, "lazy read moved the parser");
+    }
+
+    public void testHashFollowsNestedMutation() {
+        JsonObject root = new JsonParser("{\"a\":{\"b\":[1,2,{\"c\":3}]},\"d\":[]}").getJsonObject();
+        JsonObject copy = (JsonObject) root.deepCopy();
+        int hash = root.hashCode();
+
+        check(hash == copy.hashCode() && root.equals(copy), "copy does not match its source");
+
+        root.getAsJsonObject("a").getAsJsonArray("b").get(2).getAsJsonObject().add("c", 4);
+        check(!root.equals(copy), "nested mutation was not seen by equals");
+        check(root.hashCode() == root.deepCopy().hashCode(), "nested mutation left a stale hash");
+
+        root.getAsJsonArray("d").asList().add(JsonPrimitive.of(5L));
+        check(root.hashCode() == root.deepCopy().hashCode(), "list view mutation left a stale hash");
+    }
+
+    public void testEmptyFrozenArrayCopies() {
+        JsonArray built = new JsonArray().freeze().withAdded(JsonPrimitive.of(1L));
+        JsonArray parsed = new JsonParser("[]").getJsonArray().freeze();
+
+        check(built.size() == 1 && built.get(0).getAsLong() == 1, "withAdded lost the element");
+        check(built.isFrozen(), "withAdded returned a mutable array");
+        check(parsed.withAdded(new JsonPrimitive("x")).get(0).getAsString().equals("x"), "withAdded lost the element");
+        check(parsed.withAdded(null).get(0) == JsonNull.INSTANCE, "withAdded did not store null");
+        check(built.without(0).isEmpty() && built.without(0).withAdded(JsonPrimitive.of(2L)).size() == 1, "without did not empty the array");
+        check(built.with(0, JsonPrimitive.of(3L)).get(0).getAsLong() == 3, "with did not replace the element");
+        check(parsed.isEmpty(), "copies mutated their source");
+
+        try {
+            parsed.with(0, JsonPrimitive.of(1L));
+            check(false, "with accepted an index past the end");
+        } catch (IndexOutOfBoundsException expected) {
+        }
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}